@@ -0,0 +1,75 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.BlogApiApplication;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import com.devluan.blog_api.infrastructure.security.JwtTokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/posts/{postId} through the whole application with the same bearer token on every request,
+ * with the JWT decoder cache at its default size and turned off. The post is served from the posts
+ * cache, so what is left is mostly HTTP, the security filter chain and, without the cache, the RS256
+ * signature check.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class AuthenticatedEndpointBenchmark {
+
+    @Param({"0", "10000"})
+    public long decoderCacheSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest post;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BlogApiApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "logging.level.com.devluan=WARN",
+                        "security.jwt.decoder-cache.maximum-size=" + decoderCacheSize)
+                .run();
+
+        UUID authorId = context.getBean(UserRepository.class).save(BenchmarkFixtures.user("bench@example.com")).getUserId();
+        UUID postId = context.getBean(PostService.class)
+                .createPost(new PostRegisterRequest("title", "content", null, authorId)).postId();
+
+        String accessToken = context.getBean(JwtTokenService.class).generateTokens("bench@example.com").accessToken();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        post = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/" + postId))
+                .header("Authorization", "Bearer " + accessToken)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getPost() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(post, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Post returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,16 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.application.dto.user.request.UserRegisterRequest;
+import com.devluan.blog_api.domain.post.mapper.PostMapper;
+import com.devluan.blog_api.domain.user.mapper.UserMapper;
+import com.devluan.blog_api.domain.user.model.User;
+
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(String email) {
+        return new UserMapper(new PostMapper()).toEntity(new UserRegisterRequest("bench", email, "password"), "encoded");
+    }
+}
@@ -0,0 +1,85 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.comment.model.Comment;
+import com.devluan.blog_api.domain.post.mapper.PostMapper;
+import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.user.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comment insert through plain Hibernate on in-memory H2: loading author and post first, as
+ * CommentService used to, against attaching them by reference. Statements per insert are
+ * printed at teardown.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentInsertBenchmark {
+
+    @Param({"find", "reference"})
+    public String attach;
+
+    private SessionFactory sessionFactory;
+    private UUID userId;
+    private UUID postId;
+    private long inserts;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Post.class)
+                .addAnnotatedClass(Comment.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:comments-" + attach + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+
+        User user = BenchmarkFixtures.user("bench@example.com");
+        sessionFactory.inTransaction(session -> session.persist(user));
+        Post post = new PostMapper().toEntity(new PostRegisterRequest("title", "content", null, user.getUserId()));
+        post.setAuthor(user);
+        sessionFactory.inTransaction(session -> session.persist(post));
+        userId = user.getUserId();
+        postId = post.getPostId();
+        sessionFactory.getStatistics().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Statistics statistics = sessionFactory.getStatistics();
+        System.out.printf("%n%s: %.2f statements per insert%n",
+                attach, (double) statistics.getPrepareStatementCount() / Math.max(1, inserts));
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public UUID insert() {
+        inserts++;
+        return sessionFactory.fromTransaction(session -> {
+            Comment comment = new Comment();
+            comment.setContent("comment");
+            if ("find".equals(attach)) {
+                comment.setAuthor(session.find(User.class, userId));
+                comment.setPost(session.find(Post.class, postId));
+            } else {
+                comment.setAuthor(session.getReference(User.class, userId));
+                comment.setPost(session.getReference(Post.class, postId));
+            }
+            session.persist(comment);
+            session.flush();
+            return comment.getCommentId();
+        });
+    }
+}
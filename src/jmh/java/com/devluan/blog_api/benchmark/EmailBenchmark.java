@@ -0,0 +1,51 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.domain.exception.InvalidUserDataException;
+import com.devluan.blog_api.domain.user.valueObject.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailBenchmark {
+
+    private String valid;
+    private String invalid;
+    private String hostile;
+
+    @Setup
+    public void setUp() {
+        valid = "some.user-name@mail.example.com";
+        invalid = "not-an-email";
+        hostile = "a@" + "a-".repeat(2_000) + "!";
+    }
+
+    @Benchmark
+    public Email constructValid() {
+        return new Email(valid);
+    }
+
+    @Benchmark
+    public boolean rejectInvalid() {
+        return tryConstruct(invalid);
+    }
+
+    @Benchmark
+    public boolean rejectHostile() {
+        return tryConstruct(hostile);
+    }
+
+    private static boolean tryConstruct(String value) {
+        try {
+            new Email(value);
+            return true;
+        } catch (InvalidUserDataException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.application.dto.token.ParsedToken;
+import com.devluan.blog_api.application.dto.token.TokenPair;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.infrastructure.security.CachingJwtDecoder;
+import com.devluan.blog_api.infrastructure.security.JwtKeyRing;
+import com.devluan.blog_api.infrastructure.security.JwtTokenService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenServiceBenchmark {
+
+    @Param({"RS256", "ES256"})
+    public String algorithm;
+
+    @Param({"false", "true"})
+    public boolean cachedDecoder;
+
+    private JwtTokenService jwtTokenService;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        List<JWK> keys = List.of(
+                new RSAKeyGenerator(2048).keyID("rsa-1").generate(),
+                new ECKeyGenerator(Curve.P_256).keyID("ec-1").generate()
+        );
+        JwtKeyRing keyRing = new JwtKeyRing(keys, SignatureAlgorithm.from(algorithm));
+        JwtDecoder decoder = cachedDecoder ? new CachingJwtDecoder(keyRing.decoder(), 10_000, new SimpleMeterRegistry()) : keyRing.decoder();
+        jwtTokenService = new JwtTokenService(keyRing.encoder(), decoder, keyRing, new SimpleMeterRegistry());
+        user = BenchmarkFixtures.user("bench@example.com");
+        accessToken = jwtTokenService.generateTokens(user).accessToken();
+    }
+
+    @Benchmark
+    public TokenPair generateTokens() {
+        return jwtTokenService.generateTokens(user);
+    }
+
+    @Benchmark
+    public Optional<ParsedToken> parse() {
+        return jwtTokenService.parse(accessToken);
+    }
+}
@@ -0,0 +1,107 @@
+package com.devluan.blog_api.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.devluan.blog_api.infrastructure.logger.CountingAsyncAppender;
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import com.devluan.blog_api.infrastructure.logger.SLF4JLoggerService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost of one request through LoggerService. Output goes to a discarding stream so the
+ * numbers cover formatting and hand-off, not the terminal.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerServiceBenchmark {
+
+    @Param({"sync", "async"})
+    public String appender;
+
+    private LoggerContext context;
+    private Appender<ILoggingEvent> attached;
+    private LoggerService logger;
+    private UUID postId;
+
+    @Setup
+    public void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+        attached = sink;
+
+        if ("async".equals(appender)) {
+            CountingAsyncAppender async = new CountingAsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(8192 / 5);
+            async.setNeverBlock(true);
+            async.addAppender(sink);
+            async.start();
+            attached = async;
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(attached);
+
+        logger = new SLF4JLoggerService();
+        postId = UUID.randomUUID();
+    }
+
+    @TearDown
+    public void tearDown() {
+        attached.stop();
+        System.out.printf("%nDiscarded %d, dropped %d events%n",
+                CountingAsyncAppender.discardedEvents(), CountingAsyncAppender.droppedEvents());
+        context.reset();
+    }
+
+    // The shape of a getPostById call before this change: eager toString() for a disabled DEBUG line.
+    @Benchmark
+    public void disabledDebugEager() {
+        logger.debug("Post with ID: {} found.", postId.toString());
+    }
+
+    @Benchmark
+    public void disabledDebugDeferred() {
+        logger.debug("Post with ID: {} found.", postId);
+    }
+
+    @Benchmark
+    public void disabledDebugSupplier() {
+        logger.debug(() -> "Post with ID: " + postId + " found.");
+    }
+
+    // One update request: two INFO lines written, one DEBUG line skipped.
+    @Benchmark
+    public void request() {
+        logger.info("Attempting to update post with ID: {}", postId);
+        logger.debug("Post with ID: {} found.", postId);
+        logger.info("Post with ID: {} updated successfully.", postId);
+    }
+}
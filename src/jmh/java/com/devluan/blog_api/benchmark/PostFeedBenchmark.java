@@ -0,0 +1,102 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.domain.comment.model.Comment;
+import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.user.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One feed page deep into a large posts table: OFFSET paging, as the feed used to be served,
+ * against the keyset query behind PostRepository.findFeedAfter. Plain Hibernate on in-memory H2.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PostFeedBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    public int posts;
+
+    @Param({"1", "1000", "25000"})
+    public int page;
+
+    private SessionFactory sessionFactory;
+    private LocalDateTime cursorCreatedAt;
+    private UUID cursorPostId;
+
+    @Setup
+    public void setUp() {
+        // H2 otherwise hands back the previous result for a repeated query on an unchanged table.
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Post.class)
+                .addAnnotatedClass(Comment.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:feed;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+
+        User user = BenchmarkFixtures.user("bench@example.com");
+        sessionFactory.inTransaction(session -> session.persist(user));
+        // One set-based insert; persisting a million entities would dominate the setup time.
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery("""
+                        INSERT INTO posts (post_id, user_id, title, content, created_at, updated_at, version, comment_count)
+                        SELECT RANDOM_UUID(), :userId, 'title ' || X, 'content ' || X,
+                               DATEADD('SECOND', -X, TIMESTAMP '2025-01-01 00:00:00'), NULL, 0, 0
+                        FROM SYSTEM_RANGE(1, :posts)
+                        """)
+                .setParameter("userId", user.getUserId())
+                .setParameter("posts", posts)
+                .executeUpdate());
+
+        // The keyset cursor a client would hold after reading the previous pages.
+        Object[] last = sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery("SELECT p.createdAt, p.postId FROM Post p ORDER BY p.createdAt DESC, p.postId DESC", Object[].class)
+                .setFirstResult(page * PAGE_SIZE - 1)
+                .setMaxResults(1)
+                .getSingleResult());
+        cursorCreatedAt = (LocalDateTime) last[0];
+        cursorPostId = (UUID) last[1];
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<Post> offset() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery("SELECT p FROM Post p ORDER BY p.createdAt DESC, p.postId DESC", Post.class)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<Post> keyset() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery("""
+                        SELECT p FROM Post p
+                        WHERE p.createdAt <= :createdAt
+                          AND (p.createdAt < :createdAt OR p.postId < :postId)
+                        ORDER BY p.createdAt DESC, p.postId DESC
+                        """, Post.class)
+                .setParameter("createdAt", cursorCreatedAt)
+                .setParameter("postId", cursorPostId)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList());
+    }
+}
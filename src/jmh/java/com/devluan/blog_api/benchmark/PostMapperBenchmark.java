@@ -0,0 +1,50 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
+import com.devluan.blog_api.application.dto.post.response.PostResponseDTO;
+import com.devluan.blog_api.domain.post.mapper.PostMapper;
+import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.user.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostMapperBenchmark {
+
+    private PostMapper postMapper;
+    private Post post;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        postMapper = new PostMapper();
+        User author = BenchmarkFixtures.user("author@example.com");
+        post = new Post(UUID.randomUUID(), author, "A title", "Some content for the post body.", "https://example.com/img.png", null);
+        setField(post, "createdAt", LocalDateTime.now());
+        setField(post, "updatedAt", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public PostRegisterResponse toResponse() {
+        return postMapper.toResponse(post);
+    }
+
+    @Benchmark
+    public PostResponseDTO toPostResponseDTO() {
+        return postMapper.toPostResponseDTO(post);
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,45 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostRegisterResponseJsonBenchmark {
+
+    private ObjectWriter writer;
+    private PostRegisterResponse response;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().registerModule(new JavaTimeModule()).writerFor(PostRegisterResponse.class);
+        response = new PostRegisterResponse(
+                UUID.randomUUID(),
+                "A title",
+                "Some content for the post body.",
+                "https://example.com/img.png",
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                UUID.randomUUID(),
+                12L,
+                3L
+        );
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,83 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.infrastructure.search.PostSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PostSearchIndexBenchmark {
+
+    private static final String[] VOCABULARY = buildVocabulary(20_000);
+
+    @Param({"10000", "100000"})
+    public int documents;
+
+    private PostSearchIndex index;
+    private String commonQuery;
+    private String rareQuery;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long before = usedHeap();
+        index = new PostSearchIndex();
+        for (int i = 0; i < documents; i++) {
+            index.index(UUID.randomUUID(), sentence(random, 8), sentence(random, 150));
+        }
+        long after = usedHeap();
+        // JMH has no retained-size profiler; report the heap delta so runs can be compared.
+        System.out.printf("%nIndexed %d documents, ~%d bytes retained per document%n",
+                documents, (after - before) / documents);
+        commonQuery = VOCABULARY[0] + " " + VOCABULARY[1];
+        rareQuery = VOCABULARY[VOCABULARY.length - 1] + " " + VOCABULARY[VOCABULARY.length - 2];
+    }
+
+    @Benchmark
+    public PostSearchIndex.SearchResult searchCommonTerms() {
+        return index.search(commonQuery, 0, 20);
+    }
+
+    @Benchmark
+    public PostSearchIndex.SearchResult searchRareTerms() {
+        return index.search(rareQuery, 0, 20);
+    }
+
+    @Benchmark
+    public PostSearchIndex.SearchResult searchDeepPage() {
+        return index.search(commonQuery, 1_000, 20);
+    }
+
+    // Zipf-like draw so a few terms are very common and most are rare, as in real text.
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int rank = (int) Math.min(VOCABULARY.length - 1, Math.floor(Math.pow(VOCABULARY.length, random.nextDouble())) - 1);
+            text.append(VOCABULARY[rank]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static String[] buildVocabulary(int size) {
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            words[i] = "w" + Integer.toString(i, 36);
+        }
+        return words;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
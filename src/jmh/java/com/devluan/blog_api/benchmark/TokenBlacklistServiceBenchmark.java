@@ -0,0 +1,65 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.infrastructure.security.TokenBlacklistService;
+import com.devluan.blog_api.infrastructure.security.TokenFingerprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenBlacklistServiceBenchmark {
+
+    @Param({"1000", "100000"})
+    public int revokedTokens;
+
+    private TokenBlacklistService blacklistService;
+    private Set<String> fingerprints;
+    private String revokedToken;
+    private String activeToken;
+
+    @Setup
+    public void setUp() {
+        blacklistService = new TokenBlacklistService(revokedTokens, 0.01);
+        fingerprints = new HashSet<>();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < revokedTokens; i++) {
+            revokedToken = randomToken();
+            blacklistService.blacklistToken(revokedToken, expiresAt);
+            fingerprints.add(TokenFingerprint.of(revokedToken));
+        }
+        activeToken = randomToken();
+    }
+
+    @Benchmark
+    public boolean lookupActiveToken() {
+        return blacklistService.isTokenBlacklisted(activeToken);
+    }
+
+    @Benchmark
+    public boolean lookupRevokedToken() {
+        return blacklistService.isTokenBlacklisted(revokedToken);
+    }
+
+    // Baseline: fingerprint + map lookup for every request, i.e. the path without the Bloom filter.
+    @Benchmark
+    public boolean lookupActiveTokenWithoutFilter() {
+        return fingerprints.contains(TokenFingerprint.of(activeToken));
+    }
+
+    private static String randomToken() {
+        byte[] signature = new byte[256];
+        ThreadLocalRandom.current().nextBytes(signature);
+        return "eyJhbGciOiJSUzI1NiJ9.eyJzdWIiOiJiZW5jaEBleGFtcGxlLmNvbSJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+}
@@ -0,0 +1,79 @@
+package com.devluan.blog_api.benchmark;
+
+import com.devluan.blog_api.BlogApiApplication;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import com.devluan.blog_api.infrastructure.security.JwtTokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/posts/feed through the whole application, with Tomcat on its platform worker pool and under
+ * the virtual-threads profile. 400 client threads is twice Tomcat's default pool, which is where the two
+ * part ways. In-process H2 answers without network latency, so this understates what virtual threads
+ * buy against a remote database. Forks trace pinned carriers, so any pinning is printed with the run.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@Threads(400)
+@State(Scope.Benchmark)
+public class VirtualThreadsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest feed;
+
+    @Setup
+    public void setUp() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(BlogApiApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "logging.level.com.devluan=WARN");
+        if (virtualThreads) {
+            application.profiles("virtual-threads");
+        }
+        context = application.run();
+
+        UUID authorId = context.getBean(UserRepository.class).save(BenchmarkFixtures.user("bench@example.com")).getUserId();
+        PostService postService = context.getBean(PostService.class);
+        for (int i = 0; i < 200; i++) {
+            postService.createPost(new PostRegisterRequest("title " + i, "content " + i, null, authorId));
+        }
+
+        String accessToken = context.getBean(JwtTokenService.class).generateTokens("bench@example.com").accessToken();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        feed = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/feed?size=20"))
+                .header("Authorization", "Bearer " + accessToken)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int feed() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(feed, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Feed returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
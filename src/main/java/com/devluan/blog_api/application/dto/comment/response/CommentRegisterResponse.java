@@ -3,5 +3,5 @@ package com.devluan.blog_api.application.dto.comment.response;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public record CommentRegisterResponse(UUID commentId, String content, UUID authorId, UUID postId, LocalDateTime createdAt) {
+public record CommentRegisterResponse(UUID commentId, String content, UUID authorId, String authorUsername, UUID postId, LocalDateTime createdAt) {
 }
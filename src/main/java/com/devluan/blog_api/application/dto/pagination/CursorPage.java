@@ -0,0 +1,6 @@
+package com.devluan.blog_api.application.dto.pagination;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,38 @@
+package com.devluan.blog_api.application.dto.pagination;
+
+import com.devluan.blog_api.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a list ordered by {@code (createdAt, id)}. Clients only see the encoded form.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor", "INVALID_CURSOR");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor", "INVALID_CURSOR", e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.devluan.blog_api.application.dto.post.response;
+
+import java.util.List;
+
+public record PostBulkImportResponse(int received, int created, int failed, List<PostBulkItemResult> items) {
+}
@@ -0,0 +1,19 @@
+package com.devluan.blog_api.application.dto.post.response;
+
+import java.util.UUID;
+
+public record PostBulkItemResult(int index, Status status, UUID postId, String error) {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public static PostBulkItemResult created(int index, UUID postId) {
+        return new PostBulkItemResult(index, Status.CREATED, postId, null);
+    }
+
+    public static PostBulkItemResult failed(int index, String error) {
+        return new PostBulkItemResult(index, Status.FAILED, null, error);
+    }
+}
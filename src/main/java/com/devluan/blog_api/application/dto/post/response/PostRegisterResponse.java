@@ -6,6 +6,9 @@ public record PostRegisterResponse(
         String content,
         String imgUrl,
         java.time.LocalDateTime createdAt,
-        java.util.UUID authorId
+        java.time.LocalDateTime updatedAt,
+        java.util.UUID authorId,
+        long commentCount,
+        long version
 ) {
 }
@@ -2,5 +2,5 @@ package com.devluan.blog_api.application.dto.post.response;
 
 import java.util.UUID;
 
-public record PostResponseDTO(UUID postId, String title, String content, String imgUrl, String createdAt, String updatedAt, String authorUsername) {
+public record PostResponseDTO(UUID postId, String title, String content, String imgUrl, String createdAt, String updatedAt, String authorUsername, long commentCount) {
 }
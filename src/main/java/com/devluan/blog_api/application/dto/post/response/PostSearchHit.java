@@ -0,0 +1,4 @@
+package com.devluan.blog_api.application.dto.post.response;
+
+public record PostSearchHit(PostResponseDTO post, double score) {
+}
@@ -0,0 +1,6 @@
+package com.devluan.blog_api.application.dto.post.response;
+
+import java.util.List;
+
+public record PostSearchResponse(String query, int page, int size, long totalHits, List<PostSearchHit> hits) {
+}
@@ -0,0 +1,10 @@
+package com.devluan.blog_api.application.dto.token;
+
+import java.time.Instant;
+
+public record ParsedToken(String value, String subject, String username, TokenType type, Instant expiresAt) {
+
+    public boolean isRefreshToken() {
+        return type == TokenType.REFRESH;
+    }
+}
@@ -0,0 +1,6 @@
+package com.devluan.blog_api.application.dto.token;
+
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
@@ -1,5 +1,7 @@
 package com.devluan.blog_api.application.dto.user.request;
 
+import com.devluan.blog_api.domain.user.valueObject.Email;
+
 public record UserRegisterRequest(String username,
                                   String email,
                                   String password) {
@@ -8,7 +10,7 @@ public record UserRegisterRequest(String username,
         if (username == null || username.isBlank()) {
             throw new IllegalArgumentException("Username não pode ser vazio");
         }
-        if (email == null || !email.matches("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$")) {
+        if (!Email.isValid(email)) {
             throw new IllegalArgumentException("Email inválido");
         }
         if (password == null || password.length() < 6) {
@@ -5,16 +5,17 @@ import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
 import com.devluan.blog_api.application.dto.post.response.PostResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface PostApplicationService {
     PostRegisterResponse createPost(PostRegisterRequest request);
     Optional<PostRegisterResponse> getPostById(UUID postId);
-    PostRegisterResponse updatePost(UUID postId, PostRegisterRequest request);
-    void deletePost(UUID postId);
+    PostRegisterResponse updatePost(UUID postId, PostRegisterRequest request, String userEmail, Set<Long> expectedVersions);
+    void deletePost(UUID postId, String userEmail);
     Page<PostRegisterResponse> getAllPosts(Pageable pageable);
-    List<PostResponseDTO> getAllPosts();
+    Slice<PostResponseDTO> getHomeFeed(Pageable pageable);
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ public interface UserApplicationService {
     UserRegisterResponse registerUser(UserRegisterRequest request);
     UserAuthenticationResponse login(UserAuthenticationRequest request);
     UserAuthenticationResponse refreshAccessToken(String refreshToken);
-    void logout(String request);
+    void logout(String email, String accessToken);
     Optional<User> findUserById(UUID userId);
     User updateUser(UUID userId, UserRegisterRequest request);
     void deleteUser(UUID userId);
@@ -0,0 +1,89 @@
+package com.devluan.blog_api.config;
+
+import com.devluan.blog_api.infrastructure.logger.CountingAsyncAppender;
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import com.devluan.blog_api.infrastructure.metrics.ServiceMetricsInterceptor;
+import com.devluan.blog_api.infrastructure.metrics.SqlBudget;
+import com.devluan.blog_api.infrastructure.metrics.SqlStatementCountFilter;
+import com.devluan.blog_api.infrastructure.metrics.SqlStatementCounter;
+import com.devluan.blog_api.infrastructure.security.TokenBlacklistService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Application metrics on top of what Actuator binds by itself (HTTP server, JVM, HikariCP pool,
+ * caches). Everything here is registered up front so recording on the request path allocates nothing.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Both post and user stacks are covered: the REST API and the web UI each use their own services.
+    private static final String SERVICE_OPERATIONS = """
+            execution(public * com.devluan.blog_api.domain.post.service.PostService.*(..))
+            || execution(public * com.devluan.blog_api.domain.post.service.impl.PostServiceImpl.*(..))
+            || execution(public * com.devluan.blog_api.domain.comment.service.CommentService.*(..))
+            || execution(public * com.devluan.blog_api.domain.user.service.impl.UserRegisterServiceImpl.login(..))
+            || execution(public * com.devluan.blog_api.domain.user.service.impl.UserRegisterServiceImpl.refreshAccessToken(..))
+            || execution(public * com.devluan.blog_api.domain.user.service.UserAuthentication.login(..))
+            """;
+
+    @Bean
+    public Advisor serviceMetricsAdvisor(MeterRegistry meterRegistry) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(SERVICE_OPERATIONS);
+        return new DefaultPointcutAdvisor(pointcut, new ServiceMetricsInterceptor(meterRegistry));
+    }
+
+    @Bean
+    public SqlBudget sqlBudget(@Value("${app.sql.budget.mode:OFF}") SqlBudget.Mode mode,
+                               @Value("${app.sql.budget.max-statements:20}") int maxStatements,
+                               @Value("${app.sql.budget.max-repeats:5}") int maxRepeats) {
+        return new SqlBudget(mode, maxStatements, maxRepeats);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlBudget sqlBudget) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter(sqlBudget));
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(MeterRegistry meterRegistry,
+                                                                                   SqlBudget sqlBudget,
+                                                                                   LoggerService loggerService) {
+        FilterRegistrationBean<SqlStatementCountFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementCountFilter(meterRegistry, sqlBudget, loggerService));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder tokenBlacklistMetrics(TokenBlacklistService tokenBlacklistService) {
+        return registry -> Gauge.builder("security.token.blacklist.size", tokenBlacklistService, TokenBlacklistService::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder asyncLoggingMetrics() {
+        return registry -> {
+            FunctionCounter.builder("logging.events.dropped", CountingAsyncAppender.class, appender -> CountingAsyncAppender.droppedEvents())
+                    .description("Log events lost because the async queue was full")
+                    .register(registry);
+            FunctionCounter.builder("logging.events.discarded", CountingAsyncAppender.class, appender -> CountingAsyncAppender.discardedEvents())
+                    .description("INFO and lower log events shed because the async queue was nearly full")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.devluan.blog_api.config;
+
+import com.devluan.blog_api.infrastructure.persistence.ReadYourWritesTracker;
+import com.devluan.blog_api.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with a primary pool from {@code spring.datasource.*} plus one
+ * read-only pool per URL in {@code app.datasource.replica.urls}. Off unless
+ * {@code app.datasource.routing.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int primaryPoolSize,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${app.datasource.routing.sticky-window:5s}") Duration stickyWindow) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configurePool(primary, "primary", primaryPoolSize, meterRegistry);
+
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i).trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            replica.setReadOnly(true);
+            configurePool(replica, "replica-" + i, replicaPoolSize, meterRegistry);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, new ReadYourWritesTracker(stickyWindow));
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // These pools are not beans of their own, so Actuator's Hikari binding never sees them.
+    private static void configurePool(HikariDataSource pool, String name, int maximumPoolSize, MeterRegistry meterRegistry) {
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+}
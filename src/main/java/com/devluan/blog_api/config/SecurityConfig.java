@@ -3,32 +3,35 @@ package com.devluan.blog_api.config;
 import com.devluan.blog_api.infrastructure.logger.LoggerService;
 import com.devluan.blog_api.infrastructure.logger.SLF4JLoggerService;
 import com.devluan.blog_api.infrastructure.security.BlacklistingJwtAuthenticationProvider;
+import com.devluan.blog_api.infrastructure.security.CachingJwtDecoder;
+import com.devluan.blog_api.infrastructure.security.JwtKeyRing;
 import com.devluan.blog_api.infrastructure.security.TokenBlacklistService;
 import com.devluan.blog_api.infrastructure.security.UserDetailsServiceImpl;
 import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class SecurityConfig {
@@ -39,6 +42,21 @@ public class SecurityConfig {
     @Value("${jwt.private.key}")
     private RSAPrivateKey privateKey;
 
+    @Value("${jwt.rsa.key-id:rsa-1}")
+    private String rsaKeyId;
+
+    @Value("${jwt.ec.public.key:#{null}}")
+    private Resource ecPublicKey;
+
+    @Value("${jwt.ec.private.key:#{null}}")
+    private Resource ecPrivateKey;
+
+    @Value("${jwt.ec.key-id:ec-1}")
+    private String ecKeyId;
+
+    @Value("${jwt.signing.algorithm:RS256}")
+    private SignatureAlgorithm signingAlgorithm;
+
     @Bean
     @Order(1)
     public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http, BlacklistingJwtAuthenticationProvider blacklistingJwtAuthenticationProvider) throws Exception {
@@ -62,6 +80,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/login", "/register", "/css/**", "/js/**", "/images/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form
@@ -93,10 +112,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public BlacklistingJwtAuthenticationProvider blacklistingJwtAuthenticationProvider(JwtDecoder jwtDecoder, JwtAuthenticationConverter jwtAuthenticationConverter, TokenBlacklistService tokenBlacklistService) {
+    public BlacklistingJwtAuthenticationProvider blacklistingJwtAuthenticationProvider(JwtDecoder jwtDecoder, JwtAuthenticationConverter jwtAuthenticationConverter, TokenBlacklistService tokenBlacklistService, MeterRegistry meterRegistry) {
         JwtAuthenticationProvider jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtDecoder);
         jwtAuthenticationProvider.setJwtAuthenticationConverter(jwtAuthenticationConverter);
-        return new BlacklistingJwtAuthenticationProvider(tokenBlacklistService, jwtAuthenticationProvider);
+        return new BlacklistingJwtAuthenticationProvider(tokenBlacklistService, jwtAuthenticationProvider, meterRegistry);
     }
 
     @Bean
@@ -105,24 +124,31 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    public JwtKeyRing jwtKeyRing() {
+        List<JWK> keys = new ArrayList<>();
+        keys.add(new RSAKey.Builder(publicKey).privateKey(privateKey).keyID(rsaKeyId).build());
+        if (ecPublicKey != null && ecPrivateKey != null) {
+            keys.add(JwtKeyRing.ecKey(ecKeyId, ecPublicKey, ecPrivateKey));
+        }
+        return new JwtKeyRing(keys, signingAlgorithm);
     }
 
+    /** A maximum size of 0 turns the decoder cache off and verifies every token. */
     @Bean
-    public JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(this.publicKey).privateKey(privateKey).build();
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    public JwtDecoder jwtDecoder(JwtKeyRing jwtKeyRing, @Value("${security.jwt.decoder-cache.maximum-size:10000}") long maximumSize, MeterRegistry meterRegistry) {
+        if (maximumSize <= 0) {
+            return jwtKeyRing.decoder();
+        }
+        return new CachingJwtDecoder(jwtKeyRing.decoder(), maximumSize, meterRegistry);
     }
 
     @Bean
-    public LoggerService loggerService() {
-        return new SLF4JLoggerService();
+    public JwtEncoder jwtEncoder(JwtKeyRing jwtKeyRing) {
+        return jwtKeyRing.encoder();
     }
 
     @Bean
-    public TokenBlacklistService tokenBlacklistService() {
-        return new TokenBlacklistService();
+    public LoggerService loggerService() {
+        return new SLF4JLoggerService();
     }
 }
\ No newline at end of file
@@ -1,9 +1,78 @@
 package com.devluan.blog_api.domain.comment.repository;
 
+import com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse;
 import com.devluan.blog_api.domain.comment.model.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
+
+    @Query("SELECT c.post.postId FROM Comment c WHERE c.commentId = :commentId")
+    Optional<UUID> findPostIdByCommentId(@Param("commentId") UUID commentId);
+
+    @Query("""
+            SELECT new com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse(
+                c.commentId, c.content, a.userId, a.username, c.post.postId, c.createdAt)
+            FROM Comment c JOIN c.author a
+            WHERE c.commentId = :commentId
+            """)
+    Optional<CommentRegisterResponse> findResponseById(@Param("commentId") UUID commentId);
+
+    /** Deletes every comment of the post in one statement, but only if the post belongs to the given author. */
+    @Modifying
+    @Query("""
+            DELETE FROM Comment c
+            WHERE c.post.postId IN (
+                SELECT p.postId FROM Post p
+                WHERE p.postId = :postId
+                  AND p.author.userId = (SELECT u.userId FROM User u WHERE u.email.value = :authorEmail))
+            """)
+    int deleteByPostIdIfPostAuthor(@Param("postId") UUID postId, @Param("authorEmail") String authorEmail);
+
+    // 0 rows means the comment is missing or belongs to someone else.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Comment c
+            SET c.content = :content
+            WHERE c.commentId = :commentId
+              AND c.author.userId = (SELECT u.userId FROM User u WHERE u.email.value = :authorEmail)
+            """)
+    int updateContentIfAuthor(@Param("commentId") UUID commentId,
+                              @Param("authorEmail") String authorEmail,
+                              @Param("content") String content);
+
+    @Query("""
+            SELECT new com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse(
+                c.commentId, c.content, a.userId, a.username, c.post.postId, c.createdAt)
+            FROM Comment c JOIN c.author a
+            WHERE c.post.postId = :postId
+            ORDER BY c.createdAt ASC, c.commentId ASC
+            """)
+    List<CommentRegisterResponse> findByPostId(@Param("postId") UUID postId, Limit limit);
+
+    // Same shape as PostRepository.findFeedAfter: the leading range on created_at lets the
+    // database seek idx_comments_post_id_created_at instead of scanning the post's comments.
+    @Query("""
+            SELECT new com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse(
+                c.commentId, c.content, a.userId, a.username, c.post.postId, c.createdAt)
+            FROM Comment c JOIN c.author a
+            WHERE c.post.postId = :postId
+              AND c.createdAt >= :createdAt
+              AND (c.createdAt > :createdAt OR c.commentId > :commentId)
+            ORDER BY c.createdAt ASC, c.commentId ASC
+            """)
+    List<CommentRegisterResponse> findByPostIdAfter(@Param("postId") UUID postId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("commentId") UUID commentId,
+                                                    Limit limit);
 }
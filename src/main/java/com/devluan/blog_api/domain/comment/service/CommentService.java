@@ -2,83 +2,140 @@ package com.devluan.blog_api.domain.comment.service;
 
 import com.devluan.blog_api.application.dto.comment.request.CommentRegisterRequest;
 import com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse;
+import com.devluan.blog_api.application.dto.pagination.CursorPage;
+import com.devluan.blog_api.application.dto.pagination.KeysetCursor;
+import com.devluan.blog_api.config.CacheConfig;
 import com.devluan.blog_api.domain.comment.model.Comment;
 import com.devluan.blog_api.domain.comment.repository.CommentRepository;
 import com.devluan.blog_api.domain.exception.DomainException;
-import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.exception.UnauthorizedException;
 import com.devluan.blog_api.domain.post.repository.PostRepository;
-import com.devluan.blog_api.domain.user.model.User;
 import com.devluan.blog_api.domain.user.repository.UserRepository;
 import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import com.devluan.blog_api.infrastructure.persistence.ConstraintViolations;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final LoggerService logger;
+    private final CacheManager cacheManager;
 
-    public CommentRegisterResponse createComment(CommentRegisterRequest request) {
+    /**
+     * Author and post are attached by reference, never loaded: the counter update doubles as the post
+     * existence check and the author foreign key is left to the database. The username comes from the
+     * caller's access token rather than from {@code users}.
+     */
+    @Transactional
+    public CommentRegisterResponse createComment(CommentRegisterRequest request, String authorUsername) {
         logger.info("Attempting to create a new comment.");
-        User author = userRepository.findById(request.authorId())
-                .orElseThrow(() -> {
-                    logger.warn("User with ID: {} not found for comment creation.", request.authorId().toString());
-                    return new DomainException("User not found", "USER_NOT_FOUND");
-                });
-        Post post = postRepository.findById(request.postId())
-                .orElseThrow(() -> {
-                    logger.warn("Post with ID: {} not found for comment creation.", request.authorId().toString());
-                    return new DomainException("Post not found", "POST_NOT_FOUND");
-                });
+        if (request.authorId() == null) {
+            throw new DomainException("User not found", "USER_NOT_FOUND");
+        }
+        if (request.postId() == null || postRepository.incrementCommentCount(request.postId()) == 0) {
+            logger.warn("Post with ID: {} not found for comment creation.", request.postId());
+            throw new DomainException("Post not found", "POST_NOT_FOUND");
+        }
 
         Comment comment = new Comment();
         comment.setContent(request.content());
-        comment.setAuthor(author);
-        comment.setPost(post);
+        comment.setAuthor(userRepository.getReferenceById(request.authorId()));
+        comment.setPost(postRepository.getReferenceById(request.postId()));
+
+        Comment savedComment;
+        try {
+            savedComment = commentRepository.saveAndFlush(comment);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, Comment.AUTHOR_FOREIGN_KEY)) {
+                throw e;
+            }
+            logger.warn("User with ID: {} not found for comment creation.", request.authorId());
+            throw new DomainException("User not found", "USER_NOT_FOUND", e);
+        }
+        evictPost(request.postId());
+        logger.info("Comment created successfully with ID: {}", savedComment.getCommentId());
+        return new CommentRegisterResponse(
+                savedComment.getCommentId(),
+                savedComment.getContent(),
+                request.authorId(),
+                authorUsername,
+                request.postId(),
+                savedComment.getCreatedAt()
+        );
+    }
+
+    public CommentRegisterResponse updateComment(UUID commentId, CommentRegisterRequest request, String userEmail) {
+        logger.info("Attempting to update comment with ID: {}", commentId);
+        int updated = commentRepository.updateContentIfAuthor(commentId, userEmail.toLowerCase(Locale.ROOT), request.content());
+        if (updated == 0) {
+            if (!commentRepository.existsById(commentId)) {
+                logger.warn("Comment with ID: {} not found for update.", commentId);
+                throw new DomainException("Comment not found", "COMMENT_NOT_FOUND");
+            }
+            logger.warn("User {} is not authorized to update comment with ID: {}", userEmail, commentId);
+            throw new UnauthorizedException("User not authorized to update this comment", "USER_NOT_AUTHORIZED");
+        }
 
-        Comment savedComment = commentRepository.save(comment);
-        logger.info("Comment created successfully with ID: {}", savedComment.getCommentId().toString());
-        return toResponse(savedComment);
+        logger.info("Comment with ID: {} updated successfully.", commentId);
+        return commentRepository.findResponseById(commentId)
+                .orElseThrow(() -> new DomainException("Comment not found", "COMMENT_NOT_FOUND"));
     }
 
-    public CommentRegisterResponse updateComment(UUID commentId, CommentRegisterRequest request) {
-        logger.info("Attempting to update comment with ID: {}", commentId.toString());
-        Comment comment = commentRepository.findById(commentId)
+    @Transactional
+    public void deleteComment(UUID commentId) {
+        logger.info("Attempting to delete comment with ID: {}", commentId);
+        UUID postId = commentRepository.findPostIdByCommentId(commentId)
                 .orElseThrow(() -> {
-                    logger.warn("Comment with ID: {} not found for update.", commentId.toString());
+                    logger.warn("Comment with ID: {} not found for deletion.", commentId);
                     return new DomainException("Comment not found", "COMMENT_NOT_FOUND");
                 });
-
-        comment.setContent(request.content());
-
-        Comment updatedComment = commentRepository.save(comment);
-        logger.info("Comment with ID: {} updated successfully.", commentId.toString());
-        return toResponse(updatedComment);
+        commentRepository.deleteById(commentId);
+        postRepository.decrementCommentCount(postId);
+        evictPost(postId);
+        logger.info("Comment with ID: {} deleted successfully.", commentId);
     }
 
-    public void deleteComment(UUID commentId) {
-        logger.info("Attempting to delete comment with ID: {}", commentId.toString());
-        if (!commentRepository.existsById(commentId)) {
-            logger.warn("Comment with ID: {} not found for deletion.", commentId.toString());
-            throw new DomainException("Comment not found", "COMMENT_NOT_FOUND");
+    @Transactional(readOnly = true)
+    public CursorPage<CommentRegisterResponse> getComments(UUID postId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        List<CommentRegisterResponse> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findByPostId(postId, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            comments = commentRepository.findByPostIdAfter(postId, position.createdAt(), position.id(), limit);
         }
-        commentRepository.deleteById(commentId);
-        logger.info("Comment with ID: {} deleted successfully.", commentId.toString());
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentRegisterResponse> page = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            CommentRegisterResponse last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.commentId()).encode();
+        }
+        return new CursorPage<>(page, nextCursor);
     }
 
-    private CommentRegisterResponse toResponse(Comment comment) {
-        return new CommentRegisterResponse(
-                comment.getCommentId(),
-                comment.getContent(),
-                comment.getAuthor().getUserId(),
-                comment.getPost().getPostId(),
-                comment.getCreatedAt()
-        );
+    private void evictPost(UUID postId) {
+        Cache posts = cacheManager.getCache(CacheConfig.POSTS);
+        if (posts != null) {
+            posts.evict(postId);
+        }
     }
 }
@@ -0,0 +1,15 @@
+package com.devluan.blog_api.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends DomainException {
+    public InvalidCursorException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+
+    public InvalidCursorException(String message, String errorCode, Throwable cause) {
+        super(message, errorCode, cause);
+    }
+}
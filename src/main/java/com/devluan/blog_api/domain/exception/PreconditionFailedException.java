@@ -0,0 +1,15 @@
+package com.devluan.blog_api.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends DomainException {
+    public PreconditionFailedException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+
+    public PreconditionFailedException(String message, String errorCode, Throwable cause) {
+        super(message, errorCode, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.devluan.blog_api.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class UnauthorizedException extends DomainException {
+    public UnauthorizedException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -4,4 +4,7 @@ public class UserNotFoundException extends DomainException {
     public UserNotFoundException(String message, String errorCode) {
         super(message, errorCode);
     }
+    public UserNotFoundException(String message, String errorCode, Throwable cause) {
+        super(message, errorCode, cause);
+    }
 }
@@ -4,6 +4,7 @@ import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
 import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
 import com.devluan.blog_api.application.dto.post.response.PostResponseDTO;
 import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.post.model.PostSummary;
 import org.springframework.stereotype.Component;
 
 import java.time.format.DateTimeFormatter;
@@ -37,7 +38,10 @@ public class PostMapper {
                 post.getContent(),
                 post.getImgUrl(),
                 post.getCreatedAt(),
-                post.getAuthor() != null ? post.getAuthor().getUserId() : null
+                post.getUpdatedAt(),
+                post.getAuthor() != null ? post.getAuthor().getUserId() : null,
+                post.getCommentCount(),
+                post.getVersion()
         );
     }
 
@@ -52,7 +56,24 @@ public class PostMapper {
                 post.getImgUrl(),
                 post.getCreatedAt() != null ? post.getCreatedAt().format(FORMATTER) : null,
                 post.getUpdatedAt() != null ? post.getUpdatedAt().format(FORMATTER) : null,
-                post.getAuthor() != null ? post.getAuthor().getUsername() : null
+                post.getAuthor() != null ? post.getAuthor().getUsername() : null,
+                post.getCommentCount()
+        );
+    }
+
+    public PostResponseDTO toPostResponseDTO(PostSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return new PostResponseDTO(
+                summary.postId(),
+                summary.title(),
+                summary.content(),
+                summary.imgUrl(),
+                summary.createdAt() != null ? summary.createdAt().format(FORMATTER) : null,
+                summary.updatedAt() != null ? summary.updatedAt().format(FORMATTER) : null,
+                summary.authorUsername(),
+                summary.commentCount()
         );
     }
 }
@@ -6,23 +6,30 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at_post_id", columnList = "created_at, post_id")
+})
 @NoArgsConstructor
 @Getter
 public class Post {
+    public static final String AUTHOR_FOREIGN_KEY = "fk_posts_author";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "post_id")
     private UUID postId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = AUTHOR_FOREIGN_KEY))
     private User author;
 
     private String title;
@@ -33,9 +40,21 @@ public class Post {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped on every entity update; comment_count changes go through bulk updates and leave it alone.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // Maintained by single-statement increments in CommentService; see CommentCountRepairJob.
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
     @OneToMany(mappedBy = "post")
     private List<Comment> comments;
 
@@ -0,0 +1,10 @@
+package com.devluan.blog_api.domain.post.model;
+
+import java.util.UUID;
+
+public record PostSearchDocument(
+        UUID postId,
+        String title,
+        String content
+) {
+}
@@ -0,0 +1,16 @@
+package com.devluan.blog_api.domain.post.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PostSummary(
+        UUID postId,
+        String title,
+        String content,
+        String imgUrl,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String authorUsername,
+        long commentCount
+) {
+}
@@ -0,0 +1,8 @@
+package com.devluan.blog_api.domain.post.model;
+
+/** The columns a conditional GET needs, read without loading the post body. */
+public record PostVersion(
+        long version,
+        long commentCount
+) {
+}
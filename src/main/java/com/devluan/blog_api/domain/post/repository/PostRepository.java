@@ -1,9 +1,125 @@
 package com.devluan.blog_api.domain.post.repository;
 
 import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.post.model.PostSearchDocument;
+import com.devluan.blog_api.domain.post.model.PostSummary;
+import com.devluan.blog_api.domain.post.model.PostVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, UUID> {
+
+    List<Post> findByOrderByCreatedAtDescPostIdDesc(Limit limit);
+
+    // The leading range on created_at is what lets the database seek idx_posts_created_at_post_id;
+    // the plain OR form scans the index from the top. See PostFeedBenchmark.
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.createdAt <= :createdAt
+              AND (p.createdAt < :createdAt OR p.postId < :postId)
+            ORDER BY p.createdAt DESC, p.postId DESC
+            """)
+    List<Post> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("postId") UUID postId, Limit limit);
+
+    @Query("""
+            SELECT new com.devluan.blog_api.domain.post.model.PostSummary(
+                p.postId, p.title, p.content, p.imgUrl, p.createdAt, p.updatedAt, a.username, p.commentCount)
+            FROM Post p JOIN p.author a
+            ORDER BY p.createdAt DESC, p.postId DESC
+            """)
+    Slice<PostSummary> findSummaries(Pageable pageable);
+
+    @Query("""
+            SELECT new com.devluan.blog_api.domain.post.model.PostSummary(
+                p.postId, p.title, p.content, p.imgUrl, p.createdAt, p.updatedAt, a.username, p.commentCount)
+            FROM Post p JOIN p.author a
+            WHERE p.postId IN :postIds
+            """)
+    List<PostSummary> findSummariesByIds(@Param("postIds") Collection<UUID> postIds);
+
+    // Must be consumed inside a transaction; the fetch size lets the driver use a server-side cursor.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.devluan.blog_api.domain.post.model.PostSearchDocument(p.postId, p.title, p.content) FROM Post p")
+    Stream<PostSearchDocument> streamSearchDocuments();
+
+    @Query("""
+            SELECT new com.devluan.blog_api.domain.post.model.PostVersion(
+                p.version, p.commentCount)
+            FROM Post p
+            WHERE p.postId = :postId
+            """)
+    Optional<PostVersion> findVersionByPostId(@Param("postId") UUID postId);
+
+    /**
+     * Existence, ownership and the optional version check all sit in the WHERE clause,
+     * so 0 means one of them failed; {@link #findVersionByPostId} tells which.
+     * {@code expectedVersions} is ignored when {@code unconditional} is true.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Post p
+            SET p.title = :title, p.content = :content, p.updatedAt = :updatedAt, p.version = p.version + 1
+            WHERE p.postId = :postId
+              AND p.author.userId = (SELECT u.userId FROM User u WHERE u.email.value = :authorEmail)
+              AND (:unconditional = true OR p.version IN :expectedVersions)
+            """)
+    int updateContentIfAuthor(@Param("postId") UUID postId,
+                              @Param("authorEmail") String authorEmail,
+                              @Param("title") String title,
+                              @Param("content") String content,
+                              @Param("updatedAt") LocalDateTime updatedAt,
+                              @Param("unconditional") boolean unconditional,
+                              @Param("expectedVersions") Collection<Long> expectedVersions);
+
+    @Modifying
+    @Query("""
+            DELETE FROM Post p
+            WHERE p.postId = :postId
+              AND p.author.userId = (SELECT u.userId FROM User u WHERE u.email.value = :authorEmail)
+            """)
+    int deleteIfAuthor(@Param("postId") UUID postId, @Param("authorEmail") String authorEmail);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.postId = :postId")
+    int incrementCommentCount(@Param("postId") UUID postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.postId = :postId AND p.commentCount > 0")
+    int decrementCommentCount(@Param("postId") UUID postId);
+
+    @Query("SELECT p.postId FROM Post p ORDER BY p.postId")
+    List<UUID> findIds(Limit limit);
+
+    @Query("SELECT p.postId FROM Post p WHERE p.postId > :postId ORDER BY p.postId")
+    List<UUID> findIdsAfter(@Param("postId") UUID postId, Limit limit);
+
+    /** Writes only the rows whose count drifted and returns how many that was. */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Post p
+            SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post.postId = p.postId)
+            WHERE p.postId IN :postIds
+              AND p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post.postId = p.postId)
+            """)
+    int recomputeCommentCounts(@Param("postIds") Collection<UUID> postIds);
 }
@@ -0,0 +1,151 @@
+package com.devluan.blog_api.domain.post.service;
+
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.application.dto.post.response.PostBulkImportResponse;
+import com.devluan.blog_api.application.dto.post.response.PostBulkItemResult;
+import com.devluan.blog_api.domain.post.mapper.PostMapper;
+import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import com.devluan.blog_api.infrastructure.search.PostSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports posts in chunks: one author lookup and one transaction per chunk, with inserts sent as JDBC batches.
+ * A failing chunk is rolled back on its own and reported item by item; earlier chunks stay committed.
+ */
+@Service
+public class PostBulkImportService {
+    private final UserRepository userRepository;
+    private final PostMapper postMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final LoggerService logger;
+    private final PostSearchIndex postSearchIndex;
+    private final int chunkSize;
+
+    public PostBulkImportService(UserRepository userRepository,
+                                 PostMapper postMapper,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 LoggerService logger,
+                                 PostSearchIndex postSearchIndex,
+                                 @Value("${app.posts.bulk.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.postMapper = postMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.logger = logger;
+        this.postSearchIndex = postSearchIndex;
+        this.chunkSize = chunkSize;
+    }
+
+    public PostBulkImportResponse importPosts(Iterator<PostRegisterRequest> requests) {
+        List<PostBulkItemResult> results = new ArrayList<>();
+        List<PostRegisterRequest> chunk = new ArrayList<>(chunkSize);
+        int received = 0;
+        while (true) {
+            PostRegisterRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                results.addAll(importChunk(received - chunk.size(), chunk));
+                chunk.clear();
+                results.add(PostBulkItemResult.failed(received, "Malformed record; import stopped"));
+                received++;
+                break;
+            }
+            chunk.add(request);
+            received++;
+            if (chunk.size() == chunkSize) {
+                results.addAll(importChunk(received - chunk.size(), chunk));
+                chunk.clear();
+            }
+        }
+        results.addAll(importChunk(received - chunk.size(), chunk));
+
+        int created = (int) results.stream().filter(result -> result.status() == PostBulkItemResult.Status.CREATED).count();
+        logger.info("Bulk post import finished: {} of {} posts created", created, received);
+        return new PostBulkImportResponse(received, created, received - created, results);
+    }
+
+    private List<PostBulkItemResult> importChunk(int offset, List<PostRegisterRequest> chunk) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        List<Post> persisted = new ArrayList<>(chunk.size());
+        try {
+            List<PostBulkItemResult> results = transactionTemplate.execute(status -> {
+                Set<UUID> authorIds = chunk.stream()
+                        .map(PostRegisterRequest::authorId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+                Set<UUID> existingAuthors = authorIds.isEmpty() ? Set.of() : userRepository.findExistingIds(authorIds);
+
+                List<PostBulkItemResult> chunkResults = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    PostRegisterRequest request = chunk.get(i);
+                    String error = validate(request, existingAuthors);
+                    if (error != null) {
+                        chunkResults.add(PostBulkItemResult.failed(offset + i, error));
+                        continue;
+                    }
+                    Post post = postMapper.toEntity(request);
+                    post.setAuthor(entityManager.getReference(User.class, request.authorId()));
+                    entityManager.persist(post);
+                    persisted.add(post);
+                    chunkResults.add(PostBulkItemResult.created(offset + i, post.getPostId()));
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return chunkResults;
+            });
+            // Only index once the chunk has committed, so a rolled-back chunk never shows up in search.
+            persisted.forEach(post -> postSearchIndex.index(post.getPostId(), post.getTitle(), post.getContent()));
+            return results;
+        } catch (RuntimeException e) {
+            // Flush failures arrive as untranslated PersistenceExceptions and commit failures as
+            // TransactionExceptions, not only as DataAccessExceptions; any of them fails just this chunk.
+            logger.error("Bulk post import chunk at offset {} failed", offset, e);
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            List<PostBulkItemResult> failures = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                failures.add(PostBulkItemResult.failed(offset + i, "Chunk rolled back: " + cause));
+            }
+            return failures;
+        }
+    }
+
+    private String validate(PostRegisterRequest request, Set<UUID> existingAuthors) {
+        if (request == null) {
+            return "Post cannot be null";
+        }
+        if (request.title() == null || request.title().isBlank()) {
+            return "Title cannot be null or empty";
+        }
+        if (request.content() == null || request.content().isBlank()) {
+            return "Content cannot be null or empty";
+        }
+        if (request.authorId() == null || !existingAuthors.contains(request.authorId())) {
+            return "User not found";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.devluan.blog_api.domain.post.service;
+
+import com.devluan.blog_api.application.dto.post.response.PostSearchHit;
+import com.devluan.blog_api.application.dto.post.response.PostSearchResponse;
+import com.devluan.blog_api.domain.post.mapper.PostMapper;
+import com.devluan.blog_api.domain.post.model.PostSummary;
+import com.devluan.blog_api.domain.post.repository.PostRepository;
+import com.devluan.blog_api.infrastructure.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+    private static final int MAX_PAGE_SIZE = 100;
+    // Deep pages cost a heap of offset + size entries per query; nobody reads past this.
+    private static final int MAX_OFFSET = 10_000;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+
+    @Transactional(readOnly = true)
+    public PostSearchResponse search(String query, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        int offset = (int) Math.min((long) pageNumber * pageSize, MAX_OFFSET);
+        PostSearchIndex.SearchResult result = postSearchIndex.search(query, offset, pageSize);
+        if (result.hits().isEmpty()) {
+            return new PostSearchResponse(query, pageNumber, pageSize, result.totalHits(), List.of());
+        }
+
+        // The index only ranks ids; one query loads the page's rows in score order.
+        List<UUID> ids = result.hits().stream().map(PostSearchIndex.Hit::postId).toList();
+        Map<UUID, PostSummary> summaries = postRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(PostSummary::postId, Function.identity()));
+        List<PostSearchHit> hits = result.hits().stream()
+                .filter(hit -> summaries.containsKey(hit.postId()))
+                .map(hit -> new PostSearchHit(postMapper.toPostResponseDTO(summaries.get(hit.postId())), hit.score()))
+                .toList();
+        return new PostSearchResponse(query, pageNumber, pageSize, result.totalHits(), hits);
+    }
+}
@@ -1,27 +1,50 @@
 package com.devluan.blog_api.domain.post.service;
 
+import com.devluan.blog_api.application.dto.pagination.CursorPage;
+import com.devluan.blog_api.application.dto.pagination.KeysetCursor;
 import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
 import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
+import com.devluan.blog_api.config.CacheConfig;
+import com.devluan.blog_api.domain.comment.repository.CommentRepository;
 import com.devluan.blog_api.domain.post.mapper.PostMapper;
 import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.post.model.PostVersion;
 import com.devluan.blog_api.domain.post.repository.PostRepository;
 import com.devluan.blog_api.domain.exception.DomainException;
+import com.devluan.blog_api.domain.exception.PreconditionFailedException;
+import com.devluan.blog_api.domain.exception.UnauthorizedException;
 import com.devluan.blog_api.domain.user.model.User;
 import com.devluan.blog_api.domain.user.repository.UserRepository;
 import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import com.devluan.blog_api.infrastructure.persistence.ConstraintViolations;
+import com.devluan.blog_api.infrastructure.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
     private final PostMapper postMapper;
     private final LoggerService logger;
     private final UserRepository userRepository;
+    private final PostSearchIndex postSearchIndex;
 
     public PostRegisterResponse createPost(PostRegisterRequest request){
         logger.info("Attempting to create a new post.");
@@ -30,53 +53,136 @@ public class PostService {
             throw new IllegalArgumentException("Post cannot be null");
         }
 
-        User author = userRepository.findById(request.authorId())
-                .orElseThrow(() -> {
-                    logger.warn("User with ID: {} not found for post creation.", request.authorId().toString());
-                    return new DomainException("User not found", "USER_NOT_FOUND");
-                });
+        if (request.authorId() == null) {
+            throw new DomainException("User not found", "USER_NOT_FOUND");
+        }
 
+        // The author is attached by reference; a missing user surfaces as a foreign-key violation.
         Post newPost = postMapper.toEntity(request);
-        newPost.setAuthor(author);
-        postRepository.save(newPost);
-        logger.info("Post created successfully with ID: {}", newPost.getPostId().toString());
+        newPost.setAuthor(userRepository.getReferenceById(request.authorId()));
+        try {
+            postRepository.saveAndFlush(newPost);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, Post.AUTHOR_FOREIGN_KEY)) {
+                throw e;
+            }
+            logger.warn("User with ID: {} not found for post creation.", request.authorId());
+            throw new DomainException("User not found", "USER_NOT_FOUND", e);
+        }
+        postSearchIndex.index(newPost.getPostId(), newPost.getTitle(), newPost.getContent());
+        logger.info("Post created successfully with ID: {}", newPost.getPostId());
         return postMapper.toResponse(newPost);
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.POSTS, key = "#postId", unless = "#result == null")
     public Optional<PostRegisterResponse> getPostById(UUID postId) {
-        logger.info("Attempting to retrieve post with ID: {}", postId.toString());
+        logger.info("Attempting to retrieve post with ID: {}", postId);
         Optional<Post> post = postRepository.findById(postId);
         if (post.isPresent()) {
-            logger.debug("Post with ID: {} found.", postId.toString());
+            logger.debug("Post with ID: {} found.", postId);
         } else {
-            logger.warn("Post with ID: {} not found.", postId.toString());
+            logger.warn("Post with ID: {} not found.", postId);
         }
         return post.map(postMapper::toResponse);
     }
 
-    public PostRegisterResponse updatePost(UUID postId, PostRegisterRequest request) {
-        logger.info("Attempting to update post with ID: {}", postId.toString());
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> {
-                    logger.warn("Post with ID: {} not found for update.", postId.toString());
-                    return new DomainException("Post not found", "POST_NOT_FOUND");
-                });
+    /** Replaces a cached entry that turned out to be older than the row. */
+    @Transactional(readOnly = true)
+    @CachePut(cacheNames = CacheConfig.POSTS, key = "#postId", unless = "#result == null")
+    public Optional<PostRegisterResponse> reloadPostById(UUID postId) {
+        logger.debug("Reloading stale cached post with ID: {}", postId);
+        return postRepository.findById(postId).map(postMapper::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PostVersion> getPostVersion(UUID postId) {
+        return postRepository.findVersionByPostId(postId);
+    }
 
-        post.updateTitle(request.title());
-        post.updateContent(request.content());
+    /**
+     * @param expectedVersions versions named by the client's If-Match header, or null to update unconditionally
+     */
+    @CachePut(cacheNames = CacheConfig.POSTS, key = "#postId")
+    public PostRegisterResponse updatePost(UUID postId, PostRegisterRequest request, String userEmail, Set<Long> expectedVersions) {
+        logger.info("Attempting to update post with ID: {}", postId);
+        if (request.title() == null || request.title().isBlank()) {
+            throw new IllegalArgumentException("Title cannot be null or empty");
+        }
+        if (request.content() == null || request.content().isBlank()) {
+            throw new IllegalArgumentException("Content cannot be null or empty");
+        }
+
+        int updated = postRepository.updateContentIfAuthor(postId, userEmail.toLowerCase(Locale.ROOT),
+                request.title(), request.content(), LocalDateTime.now(),
+                expectedVersions == null, expectedVersions == null ? Set.of() : expectedVersions);
+        if (updated == 0) {
+            throw rejectedUpdate(postId, userEmail, expectedVersions);
+        }
 
-        Post updatedPost = postRepository.save(post);
-        logger.info("Post with ID: {} updated successfully.", postId.toString());
+        Post updatedPost = postRepository.findById(postId)
+                .orElseThrow(() -> new DomainException("Post not found", "POST_NOT_FOUND"));
+        postSearchIndex.index(postId, updatedPost.getTitle(), updatedPost.getContent());
+        logger.info("Post with ID: {} updated successfully.", postId);
         return postMapper.toResponse(updatedPost);
     }
 
-    public void deletePost(UUID postId) {
-        logger.info("Attempting to delete post with ID: {}", postId.toString());
-        if (!postRepository.existsById(postId)) {
-            logger.warn("Post with ID: {} not found for deletion.", postId.toString());
-            throw new DomainException("Post not found", "POST_NOT_FOUND");
+    private DomainException rejectedUpdate(UUID postId, String userEmail, Set<Long> expectedVersions) {
+        Optional<PostVersion> current = postRepository.findVersionByPostId(postId);
+        if (current.isEmpty()) {
+            logger.warn("Post with ID: {} not found for update.", postId);
+            return new DomainException("Post not found", "POST_NOT_FOUND");
+        }
+        if (expectedVersions != null && !expectedVersions.contains(current.get().version())) {
+            logger.warn("Post with ID: {} changed since the client read it.", postId);
+            return new PreconditionFailedException("Post was modified by another request", "POST_VERSION_MISMATCH");
+        }
+        logger.warn("User {} is not authorized to update post with ID: {}", userEmail, postId);
+        return new UnauthorizedException("User not authorized to update this post", "USER_NOT_AUTHORIZED");
+    }
+
+    /**
+     * Two set-based statements regardless of how many comments the post has; both repeat the
+     * ownership check, so a rejected delete touches nothing.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POSTS, key = "#postId")
+    public void deletePost(UUID postId, String userEmail) {
+        logger.info("Attempting to delete post with ID: {}", postId);
+        String authorEmail = userEmail.toLowerCase(Locale.ROOT);
+        commentRepository.deleteByPostIdIfPostAuthor(postId, authorEmail);
+        if (postRepository.deleteIfAuthor(postId, authorEmail) == 0) {
+            if (!postRepository.existsById(postId)) {
+                logger.warn("Post with ID: {} not found for deletion.", postId);
+                throw new DomainException("Post not found", "POST_NOT_FOUND");
+            }
+            logger.warn("User {} is not authorized to delete post with ID: {}", userEmail, postId);
+            throw new UnauthorizedException("User not authorized to delete this post", "USER_NOT_AUTHORIZED");
+        }
+        postSearchIndex.remove(postId);
+        logger.info("Post with ID: {} deleted successfully.", postId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<PostRegisterResponse> getFeed(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        // Fetch one extra row to know whether another page exists without a COUNT(*).
+        Limit limit = Limit.of(pageSize + 1);
+        List<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findByOrderByCreatedAtDescPostIdDesc(limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            posts = postRepository.findFeedAfter(position.createdAt(), position.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getPostId()).encode();
         }
-        postRepository.deleteById(postId);
-        logger.info("Post with ID: {} deleted successfully.", postId.toString());
+        return new CursorPage<>(page.stream().map(postMapper::toResponse).toList(), nextCursor);
     }
 }
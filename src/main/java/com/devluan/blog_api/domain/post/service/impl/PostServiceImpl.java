@@ -3,24 +3,35 @@ package com.devluan.blog_api.domain.post.service.impl;
 import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
 import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
 import com.devluan.blog_api.application.service.post.PostApplicationService;
+import com.devluan.blog_api.config.CacheConfig;
 import com.devluan.blog_api.application.dto.post.response.PostResponseDTO;
 import com.devluan.blog_api.domain.exception.*;
 import com.devluan.blog_api.domain.post.mapper.PostMapper;
 import com.devluan.blog_api.domain.post.model.Post;
+import com.devluan.blog_api.domain.post.model.PostVersion;
 import com.devluan.blog_api.domain.post.repository.PostRepository;
 import com.devluan.blog_api.domain.comment.repository.CommentRepository;
 import com.devluan.blog_api.domain.user.model.User;
 import com.devluan.blog_api.domain.user.repository.UserRepository;
 import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import com.devluan.blog_api.infrastructure.persistence.ConstraintViolations;
+import com.devluan.blog_api.infrastructure.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +40,7 @@ public class PostServiceImpl implements PostApplicationService {
     private final PostMapper postMapper;
     private final LoggerService logger;
     private final UserRepository userRepository;
+    private final PostSearchIndex postSearchIndex;
     private final CommentRepository commentRepository;
 
     public PostRegisterResponse createPost(PostRegisterRequest request){
@@ -38,62 +50,100 @@ public class PostServiceImpl implements PostApplicationService {
             throw new InvalidPostDataException("Post cannot be null", "INVALID_POST_DATA");
         }
 
-        User author = userRepository.findById(request.authorId())
-                .orElseThrow(() -> {
-                    logger.warn("User with ID: {} not found for post creation.", request.authorId().toString());
-                    return new UserNotFoundException("User not found", "USER_NOT_FOUND");
-                });
+        if (request.authorId() == null) {
+            throw new UserNotFoundException("User not found", "USER_NOT_FOUND");
+        }
 
+        // The author is attached by reference; a missing user surfaces as a foreign-key violation.
         Post newPost = postMapper.toEntity(request);
-        newPost.setAuthor(author);
-        postRepository.save(newPost);
-        logger.info("Post created successfully with ID: {}", newPost.getPostId().toString());
+        newPost.setAuthor(userRepository.getReferenceById(request.authorId()));
+        try {
+            postRepository.saveAndFlush(newPost);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, Post.AUTHOR_FOREIGN_KEY)) {
+                throw e;
+            }
+            logger.warn("User with ID: {} not found for post creation.", request.authorId());
+            throw new UserNotFoundException("User not found", "USER_NOT_FOUND", e);
+        }
+        postSearchIndex.index(newPost.getPostId(), newPost.getTitle(), newPost.getContent());
+        logger.info("Post created successfully with ID: {}", newPost.getPostId());
         return postMapper.toResponse(newPost);
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.POSTS, key = "#postId", unless = "#result == null")
     public Optional<PostRegisterResponse> getPostById(UUID postId) {
-        logger.info("Attempting to retrieve post with ID: {}", postId.toString());
+        logger.info("Attempting to retrieve post with ID: {}", postId);
         Optional<Post> post = postRepository.findById(postId);
         if (post.isPresent()) {
-            logger.debug("Post with ID: {} found.", postId.toString());
+            logger.debug("Post with ID: {} found.", postId);
         } else {
-            logger.warn("Post with ID: {} not found.", postId.toString());
+            logger.warn("Post with ID: {} not found.", postId);
         }
         return post.map(postMapper::toResponse);
     }
 
-    public PostRegisterResponse updatePost(UUID postId, PostRegisterRequest request) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> {
-                    logger.warn("Post with ID: {} not found for update.", postId.toString());
-                    return new PostNotFoundException("Post not found", "POST_NOT_FOUND");
-                });
+    @CachePut(cacheNames = CacheConfig.POSTS, key = "#postId")
+    public PostRegisterResponse updatePost(UUID postId, PostRegisterRequest request, String userEmail, Set<Long> expectedVersions) {
+        if (request.title() == null || request.title().isBlank()) {
+            throw new InvalidPostDataException("Title cannot be null or empty", "INVALID_POST_DATA");
+        }
+        if (request.content() == null || request.content().isBlank()) {
+            throw new InvalidPostDataException("Content cannot be null or empty", "INVALID_POST_DATA");
+        }
 
-        post.updateTitle(request.title());
-        post.updateContent(request.content());
+        // One statement checks existence, ownership and version; the follow-up reads only run on failure.
+        int updated = postRepository.updateContentIfAuthor(postId, userEmail.toLowerCase(Locale.ROOT),
+                request.title(), request.content(), LocalDateTime.now(),
+                expectedVersions == null, expectedVersions == null ? Set.of() : expectedVersions);
+        if (updated == 0) {
+            throw rejectedUpdate(postId, userEmail, expectedVersions);
+        }
 
-        Post updatedPost = postRepository.save(post);
-        logger.info("Post with ID: {} updated successfully.", postId.toString());
+        Post updatedPost = postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post not found", "POST_NOT_FOUND"));
+        postSearchIndex.index(postId, updatedPost.getTitle(), updatedPost.getContent());
+        logger.info("Post with ID: {} updated successfully.", postId);
         return postMapper.toResponse(updatedPost);
     }
 
-    public void deletePost(UUID postId, String userEmail) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> {
-                    logger.warn("Post with ID: {} not found for deletion.", postId.toString());
-                    return new PostNotFoundException("Post not found", "POST_NOT_FOUND");
-                });
+    private DomainException rejectedUpdate(UUID postId, String userEmail, Set<Long> expectedVersions) {
+        Optional<PostVersion> current = postRepository.findVersionByPostId(postId);
+        if (current.isEmpty()) {
+            logger.warn("Post with ID: {} not found for update.", postId);
+            return new PostNotFoundException("Post not found", "POST_NOT_FOUND");
+        }
+        if (expectedVersions != null && !expectedVersions.contains(current.get().version())) {
+            logger.warn("Post with ID: {} changed since the client read it.", postId);
+            return new PreconditionFailedException("Post was modified by another request", "POST_VERSION_MISMATCH");
+        }
+        logger.warn("User {} is not authorized to update post with ID: {}", userEmail, postId);
+        return new UnauthorizedException("User not authorized to update this post", "USER_NOT_AUTHORIZED");
+    }
 
-        if (!post.getAuthor().getEmail().value().equals(userEmail)) {
-            logger.warn("User with email: {} is not authorized to delete post with ID: {}", userEmail, postId.toString());
+    /**
+     * Two set-based statements regardless of how many comments the post has; both repeat the
+     * ownership check, so a rejected delete touches nothing.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POSTS, key = "#postId")
+    public void deletePost(UUID postId, String userEmail) {
+        String authorEmail = userEmail.toLowerCase(Locale.ROOT);
+        commentRepository.deleteByPostIdIfPostAuthor(postId, authorEmail);
+        if (postRepository.deleteIfAuthor(postId, authorEmail) == 0) {
+            if (!postRepository.existsById(postId)) {
+                logger.warn("Post with ID: {} not found for deletion.", postId);
+                throw new PostNotFoundException("Post not found", "POST_NOT_FOUND");
+            }
+            logger.warn("User {} is not authorized to delete post with ID: {}", userEmail, postId);
             throw new UnauthorizedException("User not authorized to delete this post", "USER_NOT_AUTHORIZED");
         }
-
-        commentRepository.deleteByPost_PostId(postId);
-        postRepository.deleteById(postId);
-        logger.info("Post with ID: {} deleted successfully.", postId.toString());
+        postSearchIndex.remove(postId);
+        logger.info("Post with ID: {} deleted successfully.", postId);
     }
 
+    @Transactional(readOnly = true)
     public Page<PostRegisterResponse> getAllPosts(Pageable pageable) {
         if (pageable.isPaged()) {
             logger.info("Fetching all posts with pagination: page {}, size {}, sort {}.",
@@ -105,10 +155,10 @@ public class PostServiceImpl implements PostApplicationService {
         return postsPage.map(postMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<PostResponseDTO> getAllPosts() {
-        return postRepository.findAll().stream()
-                .map(postMapper::toPostResponseDTO)
-                .collect(Collectors.toList());
+    public Slice<PostResponseDTO> getHomeFeed(Pageable pageable) {
+        return postRepository.findSummaries(pageable)
+                .map(postMapper::toPostResponseDTO);
     }
 }
@@ -31,10 +31,6 @@ public class UserMapper {
                 request.username(),
                 new Email(request.email()),
                 encodedPassword,
-                null, // accessToken
-                null, // accessTokenExpiration
-                null, // refreshToken
-                null, // refreshTokenExpiration
                 null, // createdAt
                 null, // posts
                 null  // comments
@@ -0,0 +1,51 @@
+package com.devluan.blog_api.domain.user.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An issued refresh token. Only the SHA-256 hash of the token is stored, so a leaked table cannot
+ * be replayed; each token is single use and replaced on refresh.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id")
+})
+@NoArgsConstructor
+@Getter
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "refresh_token_id")
+    private UUID refreshTokenId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public RefreshToken(String tokenHash, User user, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+}
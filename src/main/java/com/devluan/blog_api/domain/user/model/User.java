@@ -28,24 +28,11 @@ public class User {
     private String username;
 
     @Embedded
-    @Column(unique = true, nullable = false)
     private Email email;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(name = "access_token", length = 500)
-    private String accessToken;
-
-    @Column(name = "access_token_expiration")
-    private LocalDateTime accessTokenExpiration;
-
-    @Column(name = "refresh_token", length = 500)
-    private String refreshToken;
-
-    @Column(name = "refresh_token_expiration")
-    private LocalDateTime refreshTokenExpiration;
-
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -83,24 +70,4 @@ public class User {
         }
         this.email = newEmail;
     }
-
-    public void assignAccessToken(String accessToken, LocalDateTime expiration) {
-        this.accessToken = accessToken;
-        this.accessTokenExpiration = expiration;
-    }
-
-    public void clearAccessToken() {
-        this.accessToken = null;
-        this.accessTokenExpiration = null;
-    }
-
-    public void assignRefreshToken(String refreshToken, LocalDateTime expiration) {
-        this.refreshToken = refreshToken;
-        this.refreshTokenExpiration = expiration;
-    }
-
-    public void clearRefreshToken() {
-        this.refreshToken = null;
-        this.refreshTokenExpiration = null;
-    }
 }
\ No newline at end of file
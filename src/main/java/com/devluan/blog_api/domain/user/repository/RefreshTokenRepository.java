@@ -0,0 +1,41 @@
+package com.devluan.blog_api.domain.user.repository;
+
+import com.devluan.blog_api.domain.user.model.RefreshToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    @Query("SELECT t.user.userId FROM RefreshToken t WHERE t.tokenHash = :tokenHash AND t.expiresAt > :now")
+    Optional<UUID> findUserIdByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // Returns 0 when another request already rotated the token, so each token is redeemed at most once.
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("""
+            DELETE FROM RefreshToken t
+            WHERE t.user.userId = (SELECT u.userId FROM User u WHERE u.email.value = :email)
+            """)
+    int deleteByUserEmail(@Param("email") String email);
+
+    @Query("SELECT t.refreshTokenId FROM RefreshToken t WHERE t.expiresAt <= :now")
+    List<UUID> findExpiredIds(@Param("now") LocalDateTime now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.refreshTokenId IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
@@ -3,12 +3,19 @@ package com.devluan.blog_api.domain.user.repository;
 import com.devluan.blog_api.domain.user.model.User;
 import com.devluan.blog_api.domain.user.valueObject.Email;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(Email email);
     Optional<User> findByEmail(Email email);
     Optional<User> findByUsername(String username);
+
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
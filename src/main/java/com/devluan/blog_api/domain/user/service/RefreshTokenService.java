@@ -0,0 +1,72 @@
+package com.devluan.blog_api.domain.user.service;
+
+import com.devluan.blog_api.application.dto.token.ParsedToken;
+import com.devluan.blog_api.application.dto.token.TokenPair;
+import com.devluan.blog_api.domain.exception.InvalidCredentialsException;
+import com.devluan.blog_api.domain.user.model.RefreshToken;
+import com.devluan.blog_api.domain.user.repository.RefreshTokenRepository;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import com.devluan.blog_api.infrastructure.security.JwtTokenService;
+import com.devluan.blog_api.infrastructure.security.TokenFingerprint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Issues, rotates and revokes refresh tokens in the {@code refresh_tokens} table. Logins and
+ * refreshes insert or delete rows there and never write to {@code users}.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenService jwtTokenService;
+
+    @Transactional
+    public TokenPair issue(UUID userId, String email, String username) {
+        TokenPair tokenPair = jwtTokenService.generateTokens(email, username);
+        store(userId, tokenPair.refreshToken());
+        return tokenPair;
+    }
+
+    /**
+     * Redeems a refresh token for a new pair. The presented token is deleted in the same
+     * transaction, so replaying it, or racing a second refresh with it, fails.
+     */
+    @Transactional
+    public TokenPair rotate(String refreshToken) {
+        ParsedToken parsedToken = jwtTokenService.parse(refreshToken)
+                .filter(ParsedToken::isRefreshToken)
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token", "INVALID_REFRESH_TOKEN"));
+        if (parsedToken.subject() == null) {
+            throw new InvalidCredentialsException("Invalid refresh token subject", "INVALID_REFRESH_TOKEN_SUBJECT");
+        }
+
+        String tokenHash = TokenFingerprint.of(refreshToken);
+        UUID userId = refreshTokenRepository.findUserIdByTokenHash(tokenHash, LocalDateTime.now())
+                .orElseThrow(() -> new InvalidCredentialsException("Refresh token mismatch", "REFRESH_TOKEN_MISMATCH"));
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw new InvalidCredentialsException("Refresh token mismatch", "REFRESH_TOKEN_MISMATCH");
+        }
+
+        TokenPair tokenPair = jwtTokenService.generateTokens(parsedToken.subject(), parsedToken.username());
+        store(userId, tokenPair.refreshToken());
+        return tokenPair;
+    }
+
+    @Transactional
+    public int revokeAll(String email) {
+        return refreshTokenRepository.deleteByUserEmail(email.toLowerCase(Locale.ROOT));
+    }
+
+    private void store(UUID userId, String refreshToken) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(jwtTokenService.getRefreshTokenExpiresIn());
+        refreshTokenRepository.save(new RefreshToken(TokenFingerprint.of(refreshToken), userRepository.getReferenceById(userId), expiresAt));
+    }
+}
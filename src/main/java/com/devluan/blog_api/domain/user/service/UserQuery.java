@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -15,10 +16,12 @@ import java.util.UUID;
 public class UserQuery {
     private final UserRepository userRepository;
 
+    @Transactional(readOnly = true)
     public Page<User> findAll(Pageable pageable) {
         return userRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findById(UUID userId) {
         return userRepository.findById(userId);
     }
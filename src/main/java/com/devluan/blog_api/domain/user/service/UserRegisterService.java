@@ -10,9 +10,9 @@ import com.devluan.blog_api.domain.user.model.User;
 import com.devluan.blog_api.domain.user.repository.UserRepository;
 import com.devluan.blog_api.domain.user.valueObject.Email;
 import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import com.devluan.blog_api.infrastructure.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +23,7 @@ import java.util.UUID;
 public class UserRegisterService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserMapper userMapper;
     private final LoggerService logger;
 
@@ -77,7 +77,7 @@ public class UserRegisterService {
 
     private User buildUser(UserRegisterRequest request) {
         logger.debug("Building user entity for email: {}", request.email());
-        String encodedPassword = passwordEncoder.encode(request.password());
+        String encodedPassword = passwordHashingService.encode(request.password());
         User user = userMapper.toEntity(request, encodedPassword);
         return user;
     }
@@ -105,7 +105,7 @@ public class UserRegisterService {
 
         user.updateUsername(request.username());
         user.updateEmail(new Email(request.email()));
-        user.changePassword(passwordEncoder.encode(request.password()));
+        user.changePassword(passwordHashingService.encode(request.password()));
 
         return userRepository.save(user);
     }
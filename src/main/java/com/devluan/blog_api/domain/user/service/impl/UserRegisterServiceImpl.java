@@ -14,18 +14,18 @@ import com.devluan.blog_api.domain.exception.UserNotFoundException;
 import com.devluan.blog_api.domain.user.mapper.UserMapper;
 import com.devluan.blog_api.domain.user.model.User;
 import com.devluan.blog_api.domain.user.repository.UserRepository;
+import com.devluan.blog_api.domain.user.service.RefreshTokenService;
 import com.devluan.blog_api.domain.user.valueObject.Email;
 import com.devluan.blog_api.infrastructure.logger.LoggerService;
 import com.devluan.blog_api.infrastructure.security.JwtTokenService;
+import com.devluan.blog_api.infrastructure.security.PasswordHashingService;
 import com.devluan.blog_api.infrastructure.security.TokenBlacklistService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,11 +34,12 @@ import java.util.UUID;
 public class UserRegisterServiceImpl implements UserApplicationService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserMapper userMapper;
     private final LoggerService logger;
     private final JwtTokenService jwtTokenService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RefreshTokenService refreshTokenService;
 
     
     
@@ -114,7 +115,7 @@ public class UserRegisterServiceImpl implements UserApplicationService {
 
     private User buildUser(UserRegisterRequest request) {
         logger.debug("Building user entity for email: {}", request.email());
-        String encodedPassword = passwordEncoder.encode(request.password());
+        String encodedPassword = passwordHashingService.encode(request.password());
         User user = userMapper.toEntity(request, encodedPassword);
         return user;
     }
@@ -141,59 +142,25 @@ public class UserRegisterServiceImpl implements UserApplicationService {
         Email emailObj = new Email(request.email());
         var user = userRepository.findByEmail(emailObj)
                 .orElseThrow(() -> new UserNotFoundException("User not found.", "USER_NOT_FOUND"));
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.password(), user.getPassword())) {
             logger.warn("Failed login attempt for email: {}", request.email());
             throw new InvalidCredentialsException("Invalid email or password.", "INVALID_CREDENTIALS");
         }
         return generateAuthenticationResponse(user);
     }
 
+    // Each login gets its own refresh token row; the users row is only read.
     private UserAuthenticationResponse generateAuthenticationResponse(User user) {
-        if (user.getRefreshToken() != null && jwtTokenService.isTokenValid(user.getRefreshToken())) {
-            logger.info("Reusing existing refresh token for user: {}", user.getUsername());
-            String newAccessToken = jwtTokenService.generateAccessTokenFromRefreshToken(user.getRefreshToken());
-            user.assignAccessToken(newAccessToken, LocalDateTime.now().plusSeconds(jwtTokenService.getAccessTokenExpiresIn()));
-            userRepository.save(user);
-            return new UserAuthenticationResponse(newAccessToken, user.getRefreshToken(), jwtTokenService.getAccessTokenExpiresIn());
-        }
-
-        try {
-            TokenPair tokenPair = jwtTokenService.generateTokens(user);
-            user.assignRefreshToken(tokenPair.refreshToken(), LocalDateTime.now().plusSeconds(jwtTokenService.getRefreshTokenExpiresIn()));
-            user.assignAccessToken(tokenPair.accessToken(), LocalDateTime.now().plusSeconds(jwtTokenService.getAccessTokenExpiresIn()));
-            userRepository.save(user);
-            logger.info("User logged in successfully: {}", user.getUsername());
-            return new UserAuthenticationResponse(tokenPair.accessToken(), tokenPair.refreshToken(), tokenPair.expiresIn());
-        } catch (DomainException e) {
-            logger.error("Authentication error for user {}: {}", user.getEmail().value());
-            throw new InvalidCredentialsException("Unexpected error during authentication.", "AUTHENTICATION_ERROR");
-        }
+        TokenPair tokenPair = refreshTokenService.issue(user.getUserId(), user.getEmail().value(), user.getUsername());
+        logger.info("User logged in successfully: {}", user.getUsername());
+        return new UserAuthenticationResponse(tokenPair.accessToken(), tokenPair.refreshToken(), tokenPair.expiresIn());
     }
 
     @Override
     public UserAuthenticationResponse refreshAccessToken(String refreshToken) {
-        if (!jwtTokenService.isRefreshToken(refreshToken) || !jwtTokenService.isTokenValid(refreshToken)) {
-            throw new InvalidCredentialsException("Invalid refresh token", "INVALID_REFRESH_TOKEN");
-        }
-
-        String userEmail = jwtTokenService.getSubject(refreshToken);
-        if (userEmail == null) {
-            throw new InvalidCredentialsException("Invalid refresh token subject", "INVALID_REFRESH_TOKEN_SUBJECT");
-        }
-
-        Email emailObj = new Email(userEmail);
-        User user = userRepository.findByEmail(emailObj)
-                .orElseThrow(() -> new UserNotFoundException("User not found.", "USER_NOT_FOUND"));
-
-        if (!refreshToken.equals(user.getRefreshToken())) {
-            throw new InvalidCredentialsException("Refresh token mismatch", "REFRESH_TOKEN_MISMATCH");
-        }
-
         try {
-            String newAccessToken = jwtTokenService.generateAccessTokenFromRefreshToken(refreshToken);
-            user.assignAccessToken(newAccessToken, LocalDateTime.now().plusSeconds(jwtTokenService.getAccessTokenExpiresIn()));
-            userRepository.save(user);
-            return new UserAuthenticationResponse(newAccessToken, refreshToken, jwtTokenService.getAccessTokenExpiresIn());
+            TokenPair tokenPair = refreshTokenService.rotate(refreshToken);
+            return new UserAuthenticationResponse(tokenPair.accessToken(), tokenPair.refreshToken(), tokenPair.expiresIn());
         } catch (JwtException e) {
             throw new InvalidCredentialsException("Error refreshing access token", "REFRESH_TOKEN_ERROR");
         }
@@ -203,28 +170,29 @@ public class UserRegisterServiceImpl implements UserApplicationService {
         if (request == null || request.email() == null || request.password() == null) {
             throw new InvalidUserDataException("Invalid authentication request.", "INVALID_AUTH_REQUEST");
         }
-        if (!request.email().matches("^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$")) {
+        if (!Email.isValid(request.email())) {
             throw new InvalidUserDataException("Invalid email format.", "INVALID_EMAIL_FORMAT");
         }
     }
 
+    /**
+     * Revokes every refresh token of the user. Access tokens are not stored, so the caller's own
+     * access token, when given, is blacklisted for the rest of its lifetime.
+     */
     @Override
-    public void logout(String email) {
+    @Transactional
+    public void logout(String email, String accessToken) {
         Email emailObj = new Email(email);
-        var user = userRepository.findByEmail(emailObj)
-                .orElseThrow(() -> new UserNotFoundException("User not found.", "USER_NOT_FOUND"));
-        if (user.getRefreshToken() != null) {
-            tokenBlacklistService.blacklistToken(user.getRefreshToken());
-        }
-        if (user.getAccessToken() != null) {
-            tokenBlacklistService.blacklistToken(user.getAccessToken());
+        if (refreshTokenService.revokeAll(emailObj.value()) == 0 && !userRepository.existsByEmail(emailObj)) {
+            throw new UserNotFoundException("User not found.", "USER_NOT_FOUND");
         }
-        user.clearRefreshToken();
-        user.clearAccessToken();
-        userRepository.save(user);
+        jwtTokenService.parse(accessToken)
+                .filter(token -> !token.isRefreshToken() && emailObj.value().equals(token.subject()))
+                .ifPresent(token -> tokenBlacklistService.blacklistToken(token.value()));
         logger.info("User logged out successfully: {}", email);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<User> findUserById(UUID userId) {
         return userRepository.findById(userId);
@@ -238,7 +206,7 @@ public class UserRegisterServiceImpl implements UserApplicationService {
 
         user.updateUsername(request.username());
         user.updateEmail(new Email(request.email()));
-        user.changePassword(passwordEncoder.encode(request.password()));
+        user.changePassword(passwordHashingService.encode(request.password()));
 
         return userRepository.save(user);
     }
@@ -251,6 +219,7 @@ public class UserRegisterServiceImpl implements UserApplicationService {
         userRepository.deleteById(userId);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<User> findUserByUsername(String username) {
         return userRepository.findByUsername(username);
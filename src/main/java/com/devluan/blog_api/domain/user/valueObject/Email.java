@@ -4,16 +4,65 @@ import com.devluan.blog_api.domain.exception.InvalidUserDataException;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import java.util.Locale;
+
 
 @Embeddable
-public record Email(@Column(name = "\"EMAIL\"") String value) {
+public record Email(@Column(name = "\"EMAIL\"", unique = true, nullable = false) String value) {
     public Email {
-        if (value == null || !value.matches("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$")) {
+        if (!isValid(value)) {
             throw new InvalidUserDataException("Invalid email format", "INVALID_EMAIL_FORMAT" );
         }
+        // Stored lowercase so lookups are exact matches on the unique index whatever the input's case.
+        value = value.toLowerCase(Locale.ROOT);
     }
     public String getValue() {
         return value;
     }
 
+    /**
+     * Single-pass equivalent of {@code ^[\w-.]+@([\w-]+\.)+[\w-]{2,4}$}: no backtracking, no allocation.
+     */
+    public static boolean isValid(String value) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        int at = value.indexOf('@');
+        if (at <= 0) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (!isWordChar(c) && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        int labels = 0;
+        int labelStart = at + 1;
+        for (int i = at + 1; i <= length; i++) {
+            if (i == length || value.charAt(i) == '.') {
+                if (i == labelStart) {
+                    return false;
+                }
+                labels++;
+                if (i == length) {
+                    int topLevelLength = i - labelStart;
+                    return labels >= 2 && topLevelLength >= 2 && topLevelLength <= 4;
+                }
+                labelStart = i + 1;
+            } else {
+                char c = value.charAt(i);
+                if (!isWordChar(c) && c != '-') {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
 }
@@ -3,9 +3,13 @@ package com.devluan.blog_api.infrastructure.api;
 import com.devluan.blog_api.application.dto.comment.request.CommentRegisterRequest;
 import com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse;
 import com.devluan.blog_api.domain.comment.service.CommentService;
+import com.devluan.blog_api.infrastructure.security.JwtTokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -18,14 +22,17 @@ public class CommentController {
     private final CommentService commentService;
 
     @PostMapping("/new")
-    public ResponseEntity<CommentRegisterResponse> create(@RequestBody @Valid CommentRegisterRequest request) {
-        var response = commentService.createComment(request);
+    public ResponseEntity<CommentRegisterResponse> create(@RequestBody @Valid CommentRegisterRequest request,
+                                                          @AuthenticationPrincipal Jwt principal) {
+        var response = commentService.createComment(request, principal.getClaimAsString(JwtTokenService.USERNAME_CLAIM));
         return ResponseEntity.status(201).body(response);
     }
 
     @PutMapping("/{commentId}")
-    public ResponseEntity<CommentRegisterResponse> update(@PathVariable UUID commentId, @RequestBody @Valid CommentRegisterRequest request) {
-        var updatedComment = commentService.updateComment(commentId, request);
+    public ResponseEntity<CommentRegisterResponse> update(@PathVariable UUID commentId,
+                                                          @RequestBody @Valid CommentRegisterRequest request,
+                                                          Authentication authentication) {
+        var updatedComment = commentService.updateComment(commentId, request, authentication.getName());
         return ResponseEntity.ok(updatedComment);
     }
 
@@ -1,13 +1,34 @@
 package com.devluan.blog_api.infrastructure.api;
 
+import com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse;
+import com.devluan.blog_api.application.dto.pagination.CursorPage;
 import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.application.dto.post.response.PostBulkImportResponse;
 import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
+import com.devluan.blog_api.application.dto.post.response.PostSearchResponse;
+import com.devluan.blog_api.domain.comment.service.CommentService;
+import com.devluan.blog_api.domain.exception.PreconditionFailedException;
+import com.devluan.blog_api.domain.post.model.PostVersion;
+import com.devluan.blog_api.domain.post.service.PostBulkImportService;
+import com.devluan.blog_api.domain.post.service.PostSearchService;
 import com.devluan.blog_api.domain.post.service.PostService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -16,6 +37,10 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
+    private final PostBulkImportService postBulkImportService;
+    private final PostSearchService postSearchService;
+    private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/new")
     public ResponseEntity<PostRegisterResponse> create(@RequestBody @Valid PostRegisterRequest request) {
@@ -23,23 +48,114 @@ public class PostController {
         return ResponseEntity.status(201).body(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<PostBulkImportResponse> bulkCreate(InputStream body) throws IOException {
+        // Accepts a JSON array or newline-delimited objects; records are streamed, never buffered as a whole.
+        try (MappingIterator<PostRegisterRequest> requests = objectMapper.readerFor(PostRegisterRequest.class).readValues(body)) {
+            return ResponseEntity.ok(postBulkImportService.importPosts(requests));
+        }
+    }
+
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<PostRegisterResponse>> feed(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getFeed(cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponse> search(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postSearchService.search(q, page, size));
+    }
+
     @GetMapping("/{postId}")
-    public ResponseEntity<PostRegisterResponse> getById(@PathVariable UUID postId) {
+    public ResponseEntity<PostRegisterResponse> getById(@PathVariable UUID postId, WebRequest webRequest) {
+        // Revalidation only reads the version columns; the body is loaded once we know it changed.
+        Optional<PostVersion> version = postService.getPostVersion(postId);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String eTag = eTag(version.get().version(), version.get().commentCount());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         var postResponse = postService.getPostById(postId);
+        // The body may come from the cache; one older than the validators just read is reloaded.
+        if (postResponse.isPresent() && !isCurrent(postResponse.get(), version.get())) {
+            postResponse = postService.reloadPostById(postId);
+        }
         return postResponse
-                .map(ResponseEntity::ok)
+                .map(this::withValidators)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{postId}/comments")
+    public ResponseEntity<CursorPage<CommentRegisterResponse>> getComments(@PathVariable UUID postId,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getComments(postId, cursor, size));
+    }
+
     @PutMapping("/{postId}")
-    public ResponseEntity<PostRegisterResponse> update(@PathVariable UUID postId, @RequestBody @Valid PostRegisterRequest request) {
-        var updatedPost = postService.updatePost(postId, request);
-        return ResponseEntity.ok(updatedPost);
+    public ResponseEntity<PostRegisterResponse> update(@PathVariable UUID postId,
+                                                       @RequestBody @Valid PostRegisterRequest request,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                       Authentication authentication) {
+        var updatedPost = postService.updatePost(postId, request, authentication.getName(), expectedVersions(ifMatch));
+        return withValidators(updatedPost);
     }
 
     @DeleteMapping("/{postId}")
-    public ResponseEntity<Void> delete(@PathVariable UUID postId) {
-        postService.deletePost(postId);
+    public ResponseEntity<Void> delete(@PathVariable UUID postId, Authentication authentication) {
+        postService.deletePost(postId, authentication.getName());
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<PostRegisterResponse> withValidators(PostRegisterResponse post) {
+        return ResponseEntity.ok().eTag(eTag(post.version(), post.commentCount())).body(post);
+    }
+
+    // Strong ETag "<version>.<commentCount>": comments change the representation without bumping the version.
+    // There is deliberately no Last-Modified, since updated_at does not move when a comment is added.
+    private static String eTag(long version, long commentCount) {
+        return "\"" + version + "." + commentCount + "\"";
+    }
+
+    private static boolean isCurrent(PostRegisterResponse post, PostVersion version) {
+        return post.version() == version.version() && post.commentCount() == version.commentCount();
+    }
+
+    /**
+     * Versions named by the If-Match list, or null for "*" or no header. Only the version part of each
+     * ETag matters; a new comment should not fail an edit. Weak or foreign tags can never match, so
+     * they are skipped, and a list with nothing usable is rejected.
+     */
+    private static Set<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String entry : ifMatch.split(",")) {
+            String tag = entry.trim();
+            if (tag.equals("*")) {
+                return null;
+            }
+            if (tag.startsWith("W/") || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            int separator = value.indexOf('.');
+            try {
+                versions.add(Long.parseLong(separator < 0 ? value : value.substring(0, separator)));
+            } catch (NumberFormatException e) {
+                // Not one of ours.
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match does not match any version of this post", "INVALID_IF_MATCH");
+        }
+        return versions;
+    }
 }
@@ -11,6 +11,7 @@ import com.devluan.blog_api.domain.user.service.UserQuery;
 import com.devluan.blog_api.domain.user.service.UserRegisterService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -58,8 +59,10 @@ public class UserController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@RequestBody String email) {
-        userAuthentication.logout(email);
+    public ResponseEntity<Void> logout(@RequestBody String email,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        userAuthentication.logout(email, accessToken);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
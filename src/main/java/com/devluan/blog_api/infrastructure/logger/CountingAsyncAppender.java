@@ -0,0 +1,42 @@
+package com.devluan.blog_api.infrastructure.logger;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it throws away. Logback drops silently in two places:
+ * INFO and below once the queue is past the discarding threshold, and anything at all when
+ * {@code neverBlock} is set and the queue is full. Both are counted here and exposed statically,
+ * since appenders are created by Logback rather than Spring.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+    private static final LongAdder DISCARDED = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            DISCARDED.increment();
+            return;
+        }
+        // Racy against the worker draining the queue, so this can undercount but never overcount by much.
+        if (isNeverBlock() && remaining == 0) {
+            DROPPED.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    /** Low-priority events shed because the queue was nearly full. */
+    public static long discardedEvents() {
+        return DISCARDED.sum();
+    }
+
+    /** Events of any level lost because the queue was full and the caller would not block. */
+    public static long droppedEvents() {
+        return DROPPED.sum();
+    }
+}
@@ -1,12 +1,22 @@
 package com.devluan.blog_api.infrastructure.logger;
 
+import java.util.function.Supplier;
+
+/**
+ * The {@code (String, Object...)} overloads take SLF4J-style {@code {}} placeholders and only format
+ * when the level is enabled; pass ids and other objects as-is rather than calling {@code toString()}.
+ * A trailing {@code Throwable} argument is logged with its stack trace.
+ * The {@code Supplier} overloads are for messages that are expensive to build.
+ */
 public interface LoggerService {
     void info(String message);
-    void info(String message, String cause);
+    void info(String format, Object... args);
+    void info(Supplier<String> message);
     void warn(String message);
-    void warn(String message, String cause);
-    void error(String message, String cause);
-    void error(String message, String cause, Throwable throwable);
+    void warn(String format, Object... args);
+    void warn(Supplier<String> message);
+    void error(String format, Object... args);
     void debug(String message);
-    void debug(String message, String cause);
-}
\ No newline at end of file
+    void debug(String format, Object... args);
+    void debug(Supplier<String> message);
+}
@@ -5,6 +5,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Supplier;
+
 @Component
 @Primary
 public final class SLF4JLoggerService implements LoggerService {
@@ -16,8 +18,15 @@ public final class SLF4JLoggerService implements LoggerService {
     }
 
     @Override
-    public void info(String message, String cause) {
-        logger.info("{} | Cause: {}", message, cause);
+    public void info(String format, Object... args) {
+        logger.info(format, args);
+    }
+
+    @Override
+    public void info(Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
     }
 
     @Override
@@ -26,18 +35,20 @@ public final class SLF4JLoggerService implements LoggerService {
     }
 
     @Override
-    public void warn(String message, String cause) {
-        logger.warn("{} | Cause: {}", message, cause);
+    public void warn(String format, Object... args) {
+        logger.warn(format, args);
     }
 
     @Override
-    public void error(String message, String cause) {
-        logger.error("{} | Cause: {}", message, cause);
+    public void warn(Supplier<String> message) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(message.get());
+        }
     }
 
     @Override
-    public void error(String message, String cause, Throwable throwable) {
-        logger.error("{} | Cause: {} | Exception: {}", message, cause, throwable.getMessage(), throwable);
+    public void error(String format, Object... args) {
+        logger.error(format, args);
     }
 
     @Override
@@ -46,7 +57,14 @@ public final class SLF4JLoggerService implements LoggerService {
     }
 
     @Override
-    public void debug(String message, String cause) {
-        logger.debug("{} | Cause: {}", message, cause);
+    public void debug(String format, Object... args) {
+        logger.debug(format, args);
+    }
+
+    @Override
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
     }
 }
\ No newline at end of file
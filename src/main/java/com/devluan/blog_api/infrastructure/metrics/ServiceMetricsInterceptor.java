@@ -0,0 +1,55 @@
+package com.devluan.blog_api.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Times service methods as {@code service.operation}, tagged with class, method and outcome.
+ * Timers are built once per method; after that a call costs a map lookup and two nanoTime reads.
+ */
+public class ServiceMetricsInterceptor implements MethodInterceptor {
+    static final String METRIC_NAME = "service.operation";
+
+    private final ConcurrentMap<Method, OperationTimers> timers = new ConcurrentHashMap<>();
+    private final Function<Method, OperationTimers> timerFactory;
+
+    public ServiceMetricsInterceptor(MeterRegistry registry) {
+        this.timerFactory = method -> new OperationTimers(
+                timer(registry, method, "success"),
+                timer(registry, method, "error"));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        OperationTimers operation = timers.computeIfAbsent(invocation.getMethod(), timerFactory);
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            operation.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            operation.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, Method method, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Latency of service-layer operations")
+                .tag("service", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record OperationTimers(Timer success, Timer error) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.devluan.blog_api.infrastructure.metrics;
+
+/**
+ * Per-request limits on SQL statements. {@code maxRepeats} caps how often one statement shape may run
+ * in a request, which is what an N+1 over a lazy association looks like.
+ */
+public record SqlBudget(Mode mode, int maxStatements, int maxRepeats) {
+
+    public enum Mode {
+        /** Only export the histograms. */
+        OFF,
+        /** Also log a warning for every request over budget. */
+        LOG,
+        /** Also fail the statement that goes over budget, so the request errors out. */
+        FAIL
+    }
+
+    boolean isExceeded(int statements, int repeats) {
+        return statements > maxStatements || repeats > maxRepeats;
+    }
+}
@@ -0,0 +1,7 @@
+package com.devluan.blog_api.infrastructure.metrics;
+
+public class SqlBudgetExceededException extends IllegalStateException {
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,78 @@
+package com.devluan.blog_api.infrastructure.metrics;
+
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each HTTP request issued, and the highest repeat count of a single
+ * statement shape, as histograms. Requests over the {@link SqlBudget} are counted per route and,
+ * outside {@link SqlBudget.Mode#OFF}, logged with the most repeated statement.
+ */
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    private static final int LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry registry;
+    private final SqlBudget budget;
+    private final LoggerService logger;
+    private final DistributionSummary statements;
+    private final DistributionSummary repeats;
+
+    public SqlStatementCountFilter(MeterRegistry registry, SqlBudget budget, LoggerService logger) {
+        this.registry = registry;
+        this.budget = budget;
+        this.logger = logger;
+        this.statements = DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .baseUnit("statements")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.repeats = DistributionSummary.builder("http.server.requests.sql.repeats")
+                .description("Executions of the most repeated statement shape per HTTP request")
+                .baseUnit("statements")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.RequestStatements result = SqlStatementCounter.stop();
+            statements.record(result.statements());
+            repeats.record(result.maxRepeats());
+            if (budget.isExceeded(result.statements(), result.maxRepeats())) {
+                overBudget(request, result);
+            }
+        }
+    }
+
+    private void overBudget(HttpServletRequest request, SqlStatementCounter.RequestStatements result) {
+        // The matched route pattern keeps the tag bounded; unmatched requests share one value.
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        registry.counter("http.server.requests.sql.budget.exceeded", "method", request.getMethod(), "uri", route)
+                .increment();
+        if (budget.mode() == SqlBudget.Mode.OFF) {
+            return;
+        }
+        String sql = result.mostRepeated();
+        if (sql != null && sql.length() > LOGGED_SQL_LENGTH) {
+            sql = sql.substring(0, LOGGED_SQL_LENGTH) + "...";
+        }
+        logger.warn("SQL budget exceeded by {} {}: {} statements (budget {}), one statement ran {} times (budget {}): {}",
+                request.getMethod(), route, result.statements(), budget.maxStatements(),
+                result.maxRepeats(), budget.maxRepeats(), sql);
+    }
+}
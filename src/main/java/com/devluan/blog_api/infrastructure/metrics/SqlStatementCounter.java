@@ -0,0 +1,86 @@
+package com.devluan.blog_api.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a request is open, and how
+ * often the most frequent statement shape repeated. Hibernate binds every value as a parameter, so the
+ * SQL string itself is the shape. Outside a request (scheduled jobs, startup) statements pass through uncounted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<RequestStatements> CURRENT = ThreadLocal.withInitial(RequestStatements::new);
+
+    private final SqlBudget budget;
+
+    public SqlStatementCounter(SqlBudget budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements current = CURRENT.get();
+        if (!current.active) {
+            return sql;
+        }
+        current.statements++;
+        int[] seen = current.shapes.get(sql);
+        if (seen == null) {
+            seen = new int[1];
+            current.shapes.put(sql, seen);
+        }
+        int repeats = ++seen[0];
+        if (repeats > current.maxRepeats) {
+            current.maxRepeats = repeats;
+            current.mostRepeated = sql;
+        }
+        if (budget.mode() == SqlBudget.Mode.FAIL && !current.failed
+                && budget.isExceeded(current.statements, repeats)) {
+            current.failed = true;
+            throw new SqlBudgetExceededException("SQL budget exceeded after " + current.statements
+                    + " statements; this one ran " + repeats + " times: " + sql);
+        }
+        return sql;
+    }
+
+    static void start() {
+        RequestStatements current = CURRENT.get();
+        current.active = true;
+        current.failed = false;
+        current.statements = 0;
+        current.maxRepeats = 0;
+        current.mostRepeated = null;
+        current.shapes.clear();
+    }
+
+    /** Stops counting; the returned view stays valid until the thread's next request starts. */
+    static RequestStatements stop() {
+        RequestStatements current = CURRENT.get();
+        current.active = false;
+        return current;
+    }
+
+    // One mutable holder per thread, reused across requests.
+    static final class RequestStatements {
+        private final Map<String, int[]> shapes = new HashMap<>();
+        private boolean active;
+        private boolean failed;
+        private int statements;
+        private int maxRepeats;
+        private String mostRepeated;
+
+        int statements() {
+            return statements;
+        }
+
+        int maxRepeats() {
+            return maxRepeats;
+        }
+
+        String mostRepeated() {
+            return mostRepeated;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.devluan.blog_api.infrastructure.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Tells which constraint a failed write broke, so a service can translate the one it expects
+ * and let every other integrity violation propagate.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                if (constraintName.equalsIgnoreCase(violation.getConstraintName())) {
+                    return true;
+                }
+                // Hibernate's H2 extractor drops the first character of the name; the driver message has it whole.
+                String message = violation.getSQLException() != null ? violation.getSQLException().getMessage() : null;
+                return message != null && message.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package com.devluan.blog_api.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users wrote recently so their reads stay on the primary until replicas have
+ * caught up. Kept in memory, so stickiness holds per instance; size the window above the usual
+ * replication lag.
+ */
+public class ReadYourWritesTracker {
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite(String user) {
+        recentWriters.put(user, Boolean.TRUE);
+    }
+
+    public boolean isSticky(String user) {
+        return recentWriters.getIfPresent(user) != null;
+    }
+}
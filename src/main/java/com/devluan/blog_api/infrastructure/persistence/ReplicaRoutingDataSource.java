@@ -0,0 +1,92 @@
+package com.devluan.blog_api.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the replicas, round-robin,
+ * and everything else to the primary. A user who ran a read-write transaction within the
+ * stickiness window reads from the primary too, so they always see their own writes.
+ * <p>
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * transaction's read-only flag is only set after the transaction manager asks for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final ReadYourWritesTracker readYourWrites;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker readYourWrites) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<String> keys = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, replicas.get(i));
+            keys.add(key);
+        }
+        this.replicaKeys = List.copyOf(keys);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Any read-write transaction counts as a write; cheaper than tracking whether it changed rows.
+            if (user != null) {
+                readYourWrites.recordWrite(user);
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || (user != null && readYourWrites.isSticky(user))) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            closeIfPossible(replica);
+        }
+        closeIfPossible(primary);
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,56 @@
+package com.devluan.blog_api.infrastructure.scheduling;
+
+import com.devluan.blog_api.config.CacheConfig;
+import com.devluan.blog_api.domain.post.repository.PostRepository;
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recomputes {@code posts.comment_count} from the comments table to heal any drift
+ * left by writes that bypassed CommentService. Walks posts in id order so each
+ * batch is a short transaction instead of one table-wide update.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentCountRepairJob {
+
+    private final PostRepository postRepository;
+    private final CacheManager cacheManager;
+    private final LoggerService logger;
+
+    @Value("${app.posts.comment-count-repair.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.posts.comment-count-repair.cron:0 30 3 * * *}")
+    public void repair() {
+        Limit limit = Limit.of(batchSize);
+        List<UUID> ids = postRepository.findIds(limit);
+        long repaired = 0;
+        while (!ids.isEmpty()) {
+            int changed = postRepository.recomputeCommentCounts(ids);
+            if (changed > 0) {
+                // The update does not say which rows drifted, so the whole batch leaves the cache.
+                evictPosts(ids);
+                repaired += changed;
+            }
+            ids = postRepository.findIdsAfter(ids.get(ids.size() - 1), limit);
+        }
+        logger.info("Repaired comment counts for {} posts.", repaired);
+    }
+
+    private void evictPosts(List<UUID> ids) {
+        Cache posts = cacheManager.getCache(CacheConfig.POSTS);
+        if (posts != null) {
+            ids.forEach(posts::evict);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.devluan.blog_api.infrastructure.scheduling;
+
+import com.devluan.blog_api.domain.user.repository.RefreshTokenRepository;
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes expired refresh tokens in batches, each its own short transaction, so the purge
+ * never holds locks across the whole table.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LoggerService logger;
+
+    @Value("${app.auth.refresh-token-purge.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.auth.refresh-token-purge.cron:0 0 * * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        Limit limit = Limit.of(batchSize);
+        long purged = 0;
+        List<UUID> ids = refreshTokenRepository.findExpiredIds(now, limit);
+        while (!ids.isEmpty()) {
+            purged += refreshTokenRepository.deleteByIds(ids);
+            ids = refreshTokenRepository.findExpiredIds(now, limit);
+        }
+        logger.info("Purged {} expired refresh tokens.", purged);
+    }
+}
@@ -0,0 +1,257 @@
+package com.devluan.blog_api.infrastructure.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over post titles and content, ranked with BM25.
+ * Title terms count {@link #TITLE_BOOST} times towards term frequency and document length.
+ * Searches share a read lock; index updates take the write lock.
+ */
+@Component
+public class PostSearchIndex {
+    static final int TITLE_BOOST = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_DOCUMENTS_TO_COMPACT = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<UUID, Integer> documentIds = new HashMap<>();
+    // Indexed by internal document id; null marks a removed or replaced document.
+    private final List<IndexedPost> documents = new ArrayList<>();
+    private final Set<UUID> removedDuringRebuild = new HashSet<>();
+    private long totalLength;
+    private boolean rebuilding;
+
+    public void index(UUID postId, String title, String content) {
+        AnalyzedPost post = analyze(postId, title, content);
+        lock.writeLock().lock();
+        try {
+            put(post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                removedDuringRebuild.add(postId);
+            }
+            removeDocument(postId);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        SearchTokenizer.tokenize(query, terms::add);
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocuments = documentIds.size();
+            if (liveDocuments == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / liveDocuments;
+            float[] scores = null;
+            List<Integer> matched = new ArrayList<>();
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                if (scores == null) {
+                    scores = new float[documents.size()];
+                }
+                double idf = Math.log(1 + (liveDocuments - list.size() + 0.5) / (list.size() + 0.5));
+                for (int i = 0; i < list.size(); i++) {
+                    int document = list.document(i);
+                    int frequency = list.frequency(i);
+                    double norm = K1 * (1 - B + B * documents.get(document).length() / averageLength);
+                    if (scores[document] == 0) {
+                        matched.add(document);
+                    }
+                    scores[document] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                }
+            }
+            if (scores == null) {
+                return new SearchResult(List.of(), 0);
+            }
+
+            // Keep only the best offset + limit documents instead of sorting every match.
+            int wanted = (int) Math.min((long) offset + limit, matched.size());
+            float[] finalScores = scores;
+            PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.comparingDouble(document -> finalScores[document]));
+            for (int document : matched) {
+                if (top.size() < wanted) {
+                    top.add(document);
+                } else if (wanted > 0 && finalScores[document] > finalScores[top.peek()]) {
+                    top.poll();
+                    top.add(document);
+                }
+            }
+            List<Hit> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int document = top.poll();
+                ranked.add(new Hit(documents.get(document).postId(), finalScores[document]));
+            }
+            List<Hit> page = ranked.reversed();
+            return new SearchResult(offset >= page.size() ? List.of() : List.copyOf(page.subList(offset, page.size())), matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tokenizes outside any lock so a rebuild can analyze posts on several threads
+     * and only serialize on {@link #load}.
+     */
+    static AnalyzedPost analyze(UUID postId, String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int[] length = new int[1];
+        SearchTokenizer.tokenize(title, term -> {
+            frequencies.merge(term, TITLE_BOOST, Integer::sum);
+            length[0] += TITLE_BOOST;
+        });
+        SearchTokenizer.tokenize(content, term -> {
+            frequencies.merge(term, 1, Integer::sum);
+            length[0]++;
+        });
+        String[] terms = new String[frequencies.size()];
+        int[] counts = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[i] = entry.getKey().intern();
+            counts[i] = entry.getValue();
+            i++;
+        }
+        return new AnalyzedPost(postId, terms, counts, length[0]);
+    }
+
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            removedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds posts read by the startup scan. Posts written or deleted through the services since the
+     * rebuild started are newer than the scan, so they are left alone.
+     */
+    void load(List<AnalyzedPost> posts) {
+        lock.writeLock().lock();
+        try {
+            for (AnalyzedPost post : posts) {
+                if (!documentIds.containsKey(post.postId()) && !removedDuringRebuild.contains(post.postId())) {
+                    put(post);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            removedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(AnalyzedPost post) {
+        removeDocument(post.postId());
+        int document = documents.size();
+        documents.add(new IndexedPost(post.postId(), post.terms(), post.length()));
+        documentIds.put(post.postId(), document);
+        for (int i = 0; i < post.terms().length; i++) {
+            postings.computeIfAbsent(post.terms()[i], term -> new PostingList()).add(document, post.frequencies()[i]);
+        }
+        totalLength += post.length();
+        compactIfSparse();
+    }
+
+    private void removeDocument(UUID postId) {
+        Integer document = documentIds.remove(postId);
+        if (document == null) {
+            return;
+        }
+        IndexedPost removed = documents.set(document, null);
+        for (String term : removed.terms()) {
+            PostingList list = postings.get(term);
+            list.remove(document);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= removed.length();
+    }
+
+    // Updates leave a hole behind; once holes outnumber live documents, renumber everything densely.
+    private void compactIfSparse() {
+        int slots = documents.size();
+        int live = documentIds.size();
+        if (slots < MIN_DOCUMENTS_TO_COMPACT || slots - live <= live) {
+            return;
+        }
+        int[] mapping = new int[slots];
+        List<IndexedPost> compacted = new ArrayList<>(live);
+        for (int document = 0; document < slots; document++) {
+            IndexedPost post = documents.get(document);
+            if (post != null) {
+                mapping[document] = compacted.size();
+                documentIds.put(post.postId(), compacted.size());
+                compacted.add(post);
+            }
+        }
+        postings.values().forEach(list -> list.remap(mapping));
+        documents.clear();
+        documents.addAll(compacted);
+    }
+
+    public record Hit(UUID postId, double score) {
+    }
+
+    public record SearchResult(List<Hit> hits, long totalHits) {
+    }
+
+    record AnalyzedPost(UUID postId, String[] terms, int[] frequencies, int length) {
+    }
+
+    private record IndexedPost(UUID postId, String[] terms, int length) {
+    }
+}
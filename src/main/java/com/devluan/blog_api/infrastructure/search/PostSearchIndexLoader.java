@@ -0,0 +1,92 @@
+package com.devluan.blog_api.infrastructure.search;
+
+import com.devluan.blog_api.domain.post.model.PostSearchDocument;
+import com.devluan.blog_api.domain.post.repository.PostRepository;
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Fills {@link PostSearchIndex} once the application is ready. Posts are streamed from a single
+ * read-only cursor and tokenized in batches on a worker pool; at most two batches per worker are
+ * in flight so the scan never buffers the whole table.
+ */
+@Component
+public class PostSearchIndexLoader {
+    private final PostRepository postRepository;
+    private final PostSearchIndex index;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LoggerService logger;
+    private final int batchSize;
+    private final int parallelism;
+
+    public PostSearchIndexLoader(PostRepository postRepository,
+                                 PostSearchIndex index,
+                                 PlatformTransactionManager transactionManager,
+                                 LoggerService logger,
+                                 @Value("${app.posts.search.rebuild.batch-size:1000}") int batchSize,
+                                 @Value("${app.posts.search.rebuild.threads:0}") int threads) {
+        this.postRepository = postRepository;
+        this.index = index;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.logger = logger;
+        this.batchSize = batchSize;
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        index.beginRebuild();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<PostSearchDocument> documents = postRepository.streamSearchDocuments()) {
+                    Iterator<PostSearchDocument> iterator = documents.iterator();
+                    while (iterator.hasNext()) {
+                        List<PostSearchDocument> batch = new ArrayList<>(batchSize);
+                        while (iterator.hasNext() && batch.size() < batchSize) {
+                            batch.add(iterator.next());
+                        }
+                        inFlight.acquireUninterruptibly();
+                        pending.add(CompletableFuture
+                                .supplyAsync(() -> analyze(batch), workers)
+                                .thenAccept(index::load)
+                                .whenComplete((ignored, failure) -> inFlight.release()));
+                    }
+                }
+            });
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+            logger.info("Search index rebuilt with {} posts in {} ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.error("Search index rebuild failed with {} posts indexed", index.size(), e);
+        } finally {
+            index.endRebuild();
+            workers.shutdown();
+        }
+    }
+
+    private static List<PostSearchIndex.AnalyzedPost> analyze(List<PostSearchDocument> batch) {
+        List<PostSearchIndex.AnalyzedPost> analyzed = new ArrayList<>(batch.size());
+        for (PostSearchDocument document : batch) {
+            analyzed.add(PostSearchIndex.analyze(document.postId(), document.title(), document.content()));
+        }
+        return analyzed;
+    }
+}
@@ -0,0 +1,58 @@
+package com.devluan.blog_api.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Documents containing one term, as parallel primitive arrays sorted by document id.
+ * Ids are handed out in increasing order, so appends keep the list sorted.
+ */
+final class PostingList {
+    private int[] documents = new int[2];
+    private int[] frequencies = new int[2];
+    private int size;
+
+    void add(int document, int frequency) {
+        if (size == documents.length) {
+            int capacity = size + (size >> 1) + 1;
+            documents = Arrays.copyOf(documents, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        documents[size] = document;
+        frequencies[size] = frequency;
+        size++;
+    }
+
+    void remove(int document) {
+        int position = Arrays.binarySearch(documents, 0, size, document);
+        if (position < 0) {
+            return;
+        }
+        int tail = size - position - 1;
+        System.arraycopy(documents, position + 1, documents, position, tail);
+        System.arraycopy(frequencies, position + 1, frequencies, position, tail);
+        size--;
+    }
+
+    /** Rewrites ids after compaction; the mapping is monotonic so order is preserved. */
+    void remap(int[] mapping) {
+        for (int i = 0; i < size; i++) {
+            documents[i] = mapping[documents[i]];
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int document(int index) {
+        return documents[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+}
@@ -0,0 +1,53 @@
+package com.devluan.blog_api.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into lowercase, accent-free terms on anything that is not a letter or digit.
+ * Shared by indexing and querying so both sides always agree on what a term is.
+ */
+final class SearchTokenizer {
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 40;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it",
+            "of", "on", "or", "that", "the", "this", "to", "was", "were", "will", "with");
+
+    private SearchTokenizer() {
+    }
+
+    static void tokenize(String text, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean termChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                emit(normalized, start, i, sink);
+                start = -1;
+            }
+        }
+    }
+
+    private static void emit(String text, int start, int end, Consumer<String> sink) {
+        int length = end - start;
+        if (length < MIN_TERM_LENGTH || length > MAX_TERM_LENGTH) {
+            return;
+        }
+        String term = text.substring(start, end);
+        if (!STOP_WORDS.contains(term)) {
+            sink.accept(term);
+        }
+    }
+}
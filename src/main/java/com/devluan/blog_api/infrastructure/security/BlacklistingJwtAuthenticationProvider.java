@@ -1,34 +1,63 @@
 package com.devluan.blog_api.infrastructure.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 
+import java.util.concurrent.TimeUnit;
+
 public class BlacklistingJwtAuthenticationProvider implements AuthenticationProvider {
 
     private final TokenBlacklistService tokenBlacklistService;
     private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final Timer blacklistCheck;
+    private final Counter blacklistedRejections;
 
-    public BlacklistingJwtAuthenticationProvider(TokenBlacklistService tokenBlacklistService, JwtAuthenticationProvider jwtAuthenticationProvider) {
+    public BlacklistingJwtAuthenticationProvider(TokenBlacklistService tokenBlacklistService,
+                                                 JwtAuthenticationProvider jwtAuthenticationProvider,
+                                                 MeterRegistry meterRegistry) {
         this.tokenBlacklistService = tokenBlacklistService;
         this.jwtAuthenticationProvider = jwtAuthenticationProvider;
+        this.blacklistCheck = Timer.builder("security.token.blacklist.check")
+                .description("Time spent checking bearer tokens against the revocation list")
+                .register(meterRegistry);
+        this.blacklistedRejections = Counter.builder("security.token.blacklist.rejected")
+                .description("Requests rejected because their token was revoked")
+                .register(meterRegistry);
     }
 
     @Override
     public Authentication authenticate(Authentication authentication) {
-        if (authentication.getCredentials() instanceof Jwt) {
-            Jwt jwt = (Jwt) authentication.getCredentials();
-            if (tokenBlacklistService.isTokenBlacklisted(jwt.getTokenValue())) {
-                throw new AuthenticationServiceException("Token blacklisted");
+        // Bearer requests carry the raw token string; checking it first also skips the signature check for revoked tokens.
+        String token = tokenValue(authentication);
+        if (token != null) {
+            long start = System.nanoTime();
+            boolean blacklisted = tokenBlacklistService.isTokenBlacklisted(token);
+            blacklistCheck.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (blacklisted) {
+                blacklistedRejections.increment();
+                throw new InvalidBearerTokenException("Token blacklisted");
             }
         }
         return jwtAuthenticationProvider.authenticate(authentication);
     }
 
+    private static String tokenValue(Authentication authentication) {
+        if (authentication instanceof BearerTokenAuthenticationToken bearer) {
+            return bearer.getToken();
+        }
+        if (authentication.getCredentials() instanceof Jwt jwt) {
+            return jwt.getTokenValue();
+        }
+        return null;
+    }
+
     @Override
     public boolean supports(Class<?> authentication) {
         return jwtAuthenticationProvider.supports(authentication);
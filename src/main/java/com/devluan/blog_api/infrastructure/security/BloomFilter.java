@@ -0,0 +1,58 @@
+package com.devluan.blog_api.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over pre-hashed 64-bit keys. Safe for concurrent use; lookups never block.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(int bitCount, int hashCount) {
+        this.words = new AtomicLongArray(bitCount >>> 6);
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter withCapacity(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(expectedEntries, 1);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        bits = Math.min(Math.max(64, (bits + 63) & ~63L), Integer.MAX_VALUE & ~63L);
+        int hashes = Math.max(1, (int) Math.round((double) bits / entries * ln2));
+        return new BloomFilter((int) bits, hashes);
+    }
+
+    void put(long key) {
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(long key) {
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+}
@@ -0,0 +1,81 @@
+package com.devluan.blog_api.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers successfully decoded tokens until their {@code exp}, so a bearer token reused across
+ * requests is signature-checked once. Failed decodes propagate and are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Timer decodeTimer;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.decodeTimer = Timer.builder("jwt.decode")
+                .description("Signature verification and claim parsing of tokens not found in the cache")
+                .register(meterRegistry);
+        this.hits = Counter.builder("jwt.decoder.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jwt.decoder.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = TokenFingerprint.of(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long start = System.nanoTime();
+        Jwt jwt;
+        try {
+            jwt = delegate.decode(token);
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.devluan.blog_api.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The set of keys the application trusts, plus the one it signs new tokens with. Every key carries a
+ * {@code kid}; tokens issued before key ids existed have none and are matched by key type instead.
+ */
+public final class JwtKeyRing {
+
+    private static final Set<JWSAlgorithm> VERIFICATION_ALGORITHMS = Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
+    private final JWKSet keys;
+    private final JWK signingKey;
+    private final SignatureAlgorithm signingAlgorithm;
+
+    public JwtKeyRing(List<JWK> keys, SignatureAlgorithm signingAlgorithm) {
+        this.keys = new JWKSet(keys);
+        this.signingAlgorithm = signingAlgorithm;
+        this.signingKey = keys.stream()
+                .filter(key -> canSign(key, signingAlgorithm))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No key configured for JWT signing algorithm " + signingAlgorithm));
+    }
+
+    public JwtEncoder encoder() {
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey)));
+    }
+
+    public JwtDecoder decoder() {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(VERIFICATION_ALGORITHMS, new ImmutableJWKSet<>(keys.toPublicJWKSet())));
+        // Claims are validated by Spring's JwtValidators, as in NimbusJwtDecoder's own builders.
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(processor);
+    }
+
+    public JwsHeader signingHeader() {
+        return JwsHeader.with(signingAlgorithm).keyId(signingKey.getKeyID()).build();
+    }
+
+    public static ECKey ecKey(String keyId, Resource publicKeyPem, Resource privateKeyPem) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicKeyPem)));
+            ECPrivateKey privateKey = (ECPrivateKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyPem)));
+            return new ECKey.Builder(Curve.forECParameterSpec(publicKey.getParams()), publicKey)
+                    .privateKey(privateKey)
+                    .keyID(keyId)
+                    .build();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to load EC key pair " + keyId, e);
+        }
+    }
+
+    private static boolean canSign(JWK key, SignatureAlgorithm algorithm) {
+        try {
+            return switch (algorithm) {
+                case RS256, RS384, RS512 -> key instanceof RSAKey rsaKey && rsaKey.isPrivate() && rsaKey.toPrivateKey() != null;
+                case ES256, ES384, ES512 -> key instanceof ECKey ecKey && ecKey.isPrivate() && ecKey.toPrivateKey() != null;
+                default -> false;
+            };
+        } catch (JOSEException e) {
+            return false;
+        }
+    }
+
+    private static byte[] readPem(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            String pem = new String(in.readAllBytes(), StandardCharsets.US_ASCII)
+                    .replaceAll("-----[A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(pem);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.devluan.blog_api.infrastructure.security;
 
+import com.devluan.blog_api.application.dto.token.ParsedToken;
 import com.devluan.blog_api.application.dto.token.TokenPair;
+import com.devluan.blog_api.application.dto.token.TokenType;
 import com.devluan.blog_api.domain.user.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -11,77 +16,70 @@ import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtTokenService {
+    public static final String USERNAME_CLAIM = "username";
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
+    private final JwsHeader signingHeader;
+    private final Map<TokenType, Timer> encodeTimers = new EnumMap<>(TokenType.class);
     private final long accessTokenExpiresIn = 3600L; // 1 hour
     private final long refreshTokenExpiresIn = 86400L; // 24 hours
 
-    public JwtTokenService(JwtEncoder jwtEncoder, JwtDecoder jwtDecoder) {
+    public JwtTokenService(JwtEncoder jwtEncoder, JwtDecoder jwtDecoder, JwtKeyRing jwtKeyRing, MeterRegistry meterRegistry) {
         this.jwtEncoder = jwtEncoder;
         this.jwtDecoder = jwtDecoder;
+        this.signingHeader = jwtKeyRing.signingHeader();
+        for (TokenType type : TokenType.values()) {
+            encodeTimers.put(type, Timer.builder("jwt.encode")
+                    .description("Time to build and sign a token")
+                    .tag("token_type", type.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
     }
 
     public TokenPair generateTokens(User user) {
-        String accessToken = generateToken(user, accessTokenExpiresIn);
-        String refreshToken = generateToken(user, refreshTokenExpiresIn);
-        return new TokenPair(accessToken, refreshToken, accessTokenExpiresIn);
+        return generateTokens(user.getEmail().value(), user.getUsername());
     }
 
-    public String generateToken(User user, long expiresIn) {
-        Instant now = Instant.now();
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer("blog-api")
-                .subject(user.getEmail().value())
-                .expiresAt(now.plusSeconds(expiresIn))
-                .build();
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    public TokenPair generateTokens(String subject) {
+        return generateTokens(subject, null);
     }
 
-    public boolean isTokenValid(String token) {
-        try {
-            jwtDecoder.decode(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
-        }
+    /**
+     * The username rides along in both tokens so request handlers can name the caller without
+     * reading {@code users}; a refresh carries it over from the presented token.
+     */
+    public TokenPair generateTokens(String subject, String username) {
+        String accessToken = encode(subject, username, TokenType.ACCESS, accessTokenExpiresIn);
+        String refreshToken = encode(subject, username, TokenType.REFRESH, refreshTokenExpiresIn);
+        return new TokenPair(accessToken, refreshToken, accessTokenExpiresIn);
     }
 
-    public String getSubject(String token) {
-        try {
-            Jwt jwt = jwtDecoder.decode(token);
-            return jwt.getSubject();
-        } catch (JwtException e) {
-            return null;
+    /**
+     * Verifies the token once and exposes the claims the login and refresh flows need.
+     * Returns empty when the signature, expiry or format is invalid.
+     */
+    public Optional<ParsedToken> parse(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
         }
-    }
-
-    public boolean isRefreshToken(String token) {
         try {
             Jwt jwt = jwtDecoder.decode(token);
-            return jwt.getExpiresAt().getEpochSecond() - jwt.getIssuedAt().getEpochSecond() == refreshTokenExpiresIn;
-        } catch (JwtException e) {
-            return false;
-        }
-    }
-
-    public String generateAccessTokenFromRefreshToken(String refreshToken) {
-        String subject = getSubject(refreshToken);
-        if (subject == null) {
-            throw new JwtException("Invalid refresh token");
+            return Optional.of(new ParsedToken(token, jwt.getSubject(), jwt.getClaimAsString(USERNAME_CLAIM),
+                    resolveType(jwt), jwt.getExpiresAt()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
-        // Here you would typically fetch the user from the database using the subject
-        // and then generate a new access token for that user.
-        // For simplicity, we'll just generate a new token with the same subject.
-        Instant now = Instant.now();
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer("blog-api")
-                .subject(subject)
-                .expiresAt(now.plusSeconds(accessTokenExpiresIn))
-                .build();
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
 
     public long getAccessTokenExpiresIn() {
@@ -91,4 +89,41 @@ public class JwtTokenService {
     public long getRefreshTokenExpiresIn() {
         return refreshTokenExpiresIn;
     }
+
+    private String encode(String subject, String username, TokenType type, long expiresIn) {
+        Instant now = Instant.now();
+        // The jti keeps two tokens for the same subject issued in the same second distinct;
+        // refresh tokens are stored by hash under a unique index.
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
+                .issuer("blog-api")
+                .subject(subject)
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(expiresIn))
+                .claim(TOKEN_TYPE_CLAIM, type.name());
+        if (username != null) {
+            claims.claim(USERNAME_CLAIM, username);
+        }
+        long start = System.nanoTime();
+        try {
+            return jwtEncoder.encode(JwtEncoderParameters.from(signingHeader, claims.build())).getTokenValue();
+        } finally {
+            encodeTimers.get(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private TokenType resolveType(Jwt jwt) {
+        String type = jwt.getClaimAsString(TOKEN_TYPE_CLAIM);
+        if (type != null) {
+            return TokenType.valueOf(type);
+        }
+        // Tokens issued before the type claim existed are told apart by their lifetime.
+        Instant issuedAt = jwt.getIssuedAt();
+        Instant expiresAt = jwt.getExpiresAt();
+        if (issuedAt != null && expiresAt != null
+                && expiresAt.getEpochSecond() - issuedAt.getEpochSecond() == refreshTokenExpiresIn) {
+            return TokenType.REFRESH;
+        }
+        return TokenType.ACCESS;
+    }
 }
@@ -0,0 +1,95 @@
+package com.devluan.blog_api.infrastructure.security;
+
+import com.devluan.blog_api.domain.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a burst of logins cannot occupy every request thread.
+ * When the queue is full the caller is rejected immediately with a 503 instead of waiting.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final String BUSY = "PASSWORD_HASHING_BUSY";
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejections;
+
+    public PasswordHashingService(BCryptPasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${security.password-hashing.threads:0}") int threads,
+                                  @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode").register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing.duration").tag("operation", "match").register(meterRegistry);
+        this.rejections = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> matchTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceBusyException("Too many concurrent authentication requests", BUSY, e);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new ServiceBusyException("Password hashing timed out", BUSY, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Password hashing interrupted", BUSY, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,19 +1,111 @@
 package com.devluan.blog_api.infrastructure.security;
 
+import com.nimbusds.jwt.JWTParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import java.util.HashSet;
-import java.util.Set;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class TokenBlacklistService {
 
-    private Set<String> blacklistedTokens = new HashSet<>();
+    // Used when the token carries no readable exp; matches the longest token lifetime we issue.
+    private static final Duration DEFAULT_RETENTION = Duration.ofDays(1);
+    // The tail of a JWT is its signature, which is already uniformly random.
+    private static final int PROBE_CHARS = 32;
+
+    private final ConcurrentMap<String, Revocation> revokedTokens = new ConcurrentHashMap<>();
+    // Serializes writers with filter rebuilds so a rebuild can never lose a fresh revocation.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private volatile BloomFilter revocationFilter;
+
+    public TokenBlacklistService(
+            @Value("${security.token-blacklist.expected-revocations:100000}") int expectedRevocations,
+            @Value("${security.token-blacklist.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revocationFilter = BloomFilter.withCapacity(expectedRevocations, falsePositiveRate);
+    }
 
     public void blacklistToken(String token) {
-        blacklistedTokens.add(token);
+        blacklistToken(token, readExpiration(token));
+    }
+
+    public void blacklistToken(String token, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        long probeKey = probeKey(token);
+        writeLock.lock();
+        try {
+            revocationFilter.put(probeKey);
+            revokedTokens.put(TokenFingerprint.of(token), new Revocation(expiresAt.getEpochSecond(), probeKey));
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     public boolean isTokenBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+        if (revokedTokens.isEmpty() || !revocationFilter.mightContain(probeKey(token))) {
+            return false;
+        }
+        Revocation revocation = revokedTokens.get(TokenFingerprint.of(token));
+        return revocation != null && revocation.expiresAt() > Instant.now().getEpochSecond();
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-blacklist.sweep-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        if (!revokedTokens.values().removeIf(revocation -> revocation.expiresAt() <= now)) {
+            return;
+        }
+        // Bloom filters cannot delete, so rebuild from the live entries to keep the false-positive rate down.
+        writeLock.lock();
+        try {
+            BloomFilter rebuilt = BloomFilter.withCapacity(Math.max(expectedRevocations, revokedTokens.size() * 2), falsePositiveRate);
+            revokedTokens.values().forEach(revocation -> rebuilt.put(revocation.probeKey()));
+            revocationFilter = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    static long probeKey(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = Math.max(0, token.length() - PROBE_CHARS); i < token.length(); i++) {
+            hash = (hash ^ token.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private Instant readExpiration(String token) {
+        try {
+            Date expiration = JWTParser.parse(token).getJWTClaimsSet().getExpirationTime();
+            if (expiration != null) {
+                return expiration.toInstant();
+            }
+        } catch (ParseException e) {
+            // Not a JWT we can read; keep it for the maximum token lifetime instead.
+        }
+        return Instant.now().plus(DEFAULT_RETENTION);
+    }
+
+    private record Revocation(long expiresAt, long probeKey) {
     }
-}
\ No newline at end of file
+}
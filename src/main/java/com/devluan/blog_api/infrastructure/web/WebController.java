@@ -4,7 +4,10 @@ import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
 import com.devluan.blog_api.application.dto.user.request.UserRegisterRequest;
 import com.devluan.blog_api.application.service.post.PostApplicationService;
 import com.devluan.blog_api.application.service.user.UserApplicationService;
+import com.devluan.blog_api.application.dto.post.response.PostResponseDTO;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +16,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.UUID;
 
@@ -21,12 +25,17 @@ import java.util.UUID;
 @AllArgsConstructor
 public class WebController {
 
+    private static final int HOME_PAGE_SIZE = 30;
+
     private final PostApplicationService postApplicationService;
     private final UserApplicationService userApplicationService;
 
     @GetMapping
-    public String index(Model model) {
-        model.addAttribute("posts", postApplicationService.getAllPosts());
+    public String index(@RequestParam(defaultValue = "0") int page, Model model) {
+        Slice<PostResponseDTO> posts = postApplicationService.getHomeFeed(PageRequest.of(Math.max(page, 0), HOME_PAGE_SIZE));
+        model.addAttribute("posts", posts.getContent());
+        model.addAttribute("page", posts.getNumber());
+        model.addAttribute("hasNext", posts.hasNext());
         return "index";
     }
 
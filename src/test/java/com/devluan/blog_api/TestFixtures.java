@@ -0,0 +1,20 @@
+package com.devluan.blog_api;
+
+import com.devluan.blog_api.application.dto.user.request.UserRegisterRequest;
+import com.devluan.blog_api.domain.post.mapper.PostMapper;
+import com.devluan.blog_api.domain.user.mapper.UserMapper;
+import com.devluan.blog_api.domain.user.model.User;
+
+import java.util.UUID;
+
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    // A fresh address per call, since tests share one in-memory database per context.
+    public static User user() {
+        String email = "user-" + UUID.randomUUID() + "@example.com";
+        return new UserMapper(new PostMapper()).toEntity(new UserRegisterRequest("tester", email, "password"), "encoded");
+    }
+}
@@ -0,0 +1,101 @@
+package com.devluan.blog_api.domain.comment.service;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.comment.request.CommentRegisterRequest;
+import com.devluan.blog_api.application.dto.comment.response.CommentRegisterResponse;
+import com.devluan.blog_api.application.dto.pagination.CursorPage;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.exception.DomainException;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private UUID postId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(TestFixtures.user());
+        postId = postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId())).postId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void createCommentRunsTwoStatementsAndNeverReadsUsers() {
+        CommentRegisterResponse response = commentService.createComment(
+                new CommentRegisterRequest("comment", author.getUserId(), postId), author.getUsername());
+
+        // The comment counter update and the insert; the author is only a foreign key.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(response.authorUsername()).isEqualTo(author.getUsername());
+        assertThat(postService.getPostVersion(postId).orElseThrow().commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cursorPagesWalkEveryCommentOnceInOrder() {
+        for (int i = 0; i < 5; i++) {
+            commentService.createComment(new CommentRegisterRequest("comment " + i, author.getUserId(), postId), author.getUsername());
+        }
+
+        List<UUID> paged = new ArrayList<>();
+        CursorPage<CommentRegisterResponse> page = commentService.getComments(postId, null, 2);
+        page.items().forEach(comment -> paged.add(comment.commentId()));
+        while (page.nextCursor() != null) {
+            page = commentService.getComments(postId, page.nextCursor(), 2);
+            page.items().forEach(comment -> paged.add(comment.commentId()));
+        }
+
+        assertThat(paged).containsExactlyElementsOf(commentService.getComments(postId, null, 10).items().stream()
+                .map(CommentRegisterResponse::commentId)
+                .toList());
+        assertThat(paged).hasSize(5);
+    }
+
+    @Test
+    void unknownAuthorIsUserNotFound() {
+        assertThatThrownBy(() -> commentService.createComment(new CommentRegisterRequest("comment", UUID.randomUUID(), postId), "nobody"))
+                .isInstanceOf(DomainException.class)
+                .extracting("errorCode").isEqualTo("USER_NOT_FOUND");
+    }
+
+    @Test
+    void unknownPostIsPostNotFound() {
+        assertThatThrownBy(() -> commentService.createComment(new CommentRegisterRequest("comment", author.getUserId(), UUID.randomUUID()), author.getUsername()))
+                .isInstanceOf(DomainException.class)
+                .extracting("errorCode").isEqualTo("POST_NOT_FOUND");
+    }
+}
@@ -0,0 +1,57 @@
+package com.devluan.blog_api.domain.post.service;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.application.dto.post.response.PostBulkImportResponse;
+import com.devluan.blog_api.application.dto.post.response.PostBulkItemResult;
+import com.devluan.blog_api.domain.post.repository.PostRepository;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.posts.bulk.chunk-size=2")
+@ActiveProfiles("test")
+class PostBulkImportServiceTest {
+
+    @Autowired
+    private PostBulkImportService postBulkImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void failingChunkIsReportedWhileTheOthersCommit() {
+        UUID authorId = userRepository.save(TestFixtures.user()).getUserId();
+        long postsBefore = postRepository.count();
+        // The second chunk holds a post longer than the content column, so its flush fails.
+        List<PostRegisterRequest> requests = List.of(
+                new PostRegisterRequest("first", "content", null, authorId),
+                new PostRegisterRequest("second", "content", null, authorId),
+                new PostRegisterRequest("third", "x".repeat(1_000), null, authorId),
+                new PostRegisterRequest("fourth", "content", null, authorId),
+                new PostRegisterRequest("fifth", "content", null, authorId));
+
+        PostBulkImportResponse response = postBulkImportService.importPosts(requests.iterator());
+
+        assertThat(response.received()).isEqualTo(5);
+        assertThat(response.created()).isEqualTo(3);
+        assertThat(response.items()).extracting(PostBulkItemResult::status).containsExactly(
+                PostBulkItemResult.Status.CREATED,
+                PostBulkItemResult.Status.CREATED,
+                PostBulkItemResult.Status.FAILED,
+                PostBulkItemResult.Status.FAILED,
+                PostBulkItemResult.Status.CREATED);
+        assertThat(response.items().get(2).error()).startsWith("Chunk rolled back: ");
+        assertThat(postRepository.count()).isEqualTo(postsBefore + 3);
+    }
+}
@@ -0,0 +1,91 @@
+package com.devluan.blog_api.domain.post.service;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.comment.request.CommentRegisterRequest;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.comment.repository.CommentRepository;
+import com.devluan.blog_api.domain.comment.service.CommentService;
+import com.devluan.blog_api.domain.exception.DomainException;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PostServiceTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(TestFixtures.user());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void createPostRunsOnlyTheInsert() {
+        postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deletingAPostRunsTwoStatementsWhateverItsCommentCount() {
+        UUID postId = postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId())).postId();
+        for (int i = 0; i < 50; i++) {
+            commentService.createComment(new CommentRegisterRequest("comment " + i, author.getUserId(), postId), author.getUsername());
+        }
+        statistics.clear();
+
+        postService.deletePost(postId, author.getEmail().getValue());
+
+        // One set-based delete for the comments and one for the post.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(postService.getPostVersion(postId)).isEmpty();
+        assertThat(commentRepository.findByPostId(postId, Limit.of(1))).isEmpty();
+    }
+
+    @Test
+    void unknownAuthorIsUserNotFound() {
+        assertThatThrownBy(() -> postService.createPost(new PostRegisterRequest("title", "content", null, UUID.randomUUID())))
+                .isInstanceOf(DomainException.class)
+                .extracting("errorCode").isEqualTo("USER_NOT_FOUND");
+    }
+
+    @Test
+    void otherIntegrityViolationsPropagate() {
+        assertThatThrownBy(() -> postService.createPost(new PostRegisterRequest("title", "x".repeat(1_000), null, author.getUserId())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.devluan.blog_api.domain.user.service;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.token.TokenPair;
+import com.devluan.blog_api.domain.exception.InvalidCredentialsException;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import com.devluan.blog_api.infrastructure.security.JwtTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Test
+    void tokensIssuedInTheSameSecondAreDistinctAndEachRotatesOnce() {
+        User user = userRepository.save(TestFixtures.user());
+        String email = user.getEmail().getValue();
+
+        TokenPair first = refreshTokenService.issue(user.getUserId(), email, user.getUsername());
+        TokenPair second = refreshTokenService.issue(user.getUserId(), email, user.getUsername());
+        assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
+
+        TokenPair rotated = refreshTokenService.rotate(first.refreshToken());
+        assertThat(rotated.refreshToken()).isNotIn(first.refreshToken(), second.refreshToken());
+        assertThat(jwtTokenService.parse(rotated.accessToken()).orElseThrow().username()).isEqualTo(user.getUsername());
+        assertThatThrownBy(() -> refreshTokenService.rotate(first.refreshToken()))
+                .isInstanceOf(InvalidCredentialsException.class)
+                .extracting("errorCode").isEqualTo("REFRESH_TOKEN_MISMATCH");
+        assertThat(refreshTokenService.rotate(second.refreshToken()).refreshToken()).isNotEqualTo(rotated.refreshToken());
+    }
+}
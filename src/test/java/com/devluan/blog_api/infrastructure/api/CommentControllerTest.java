@@ -0,0 +1,51 @@
+package com.devluan.blog_api.infrastructure.api;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import com.devluan.blog_api.infrastructure.security.JwtTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void createdCommentNamesTheAuthorFromTheAccessToken() throws Exception {
+        User author = userRepository.save(TestFixtures.user());
+        UUID postId = postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId())).postId();
+
+        mockMvc.perform(post("/api/comments/new")
+                        .with(jwt().jwt(token -> token.subject(author.getEmail().getValue())
+                                .claim(JwtTokenService.USERNAME_CLAIM, author.getUsername())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"comment\",\"authorId\":\"" + author.getUserId() + "\",\"postId\":\"" + postId + "\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.authorUsername").value(author.getUsername()));
+    }
+}
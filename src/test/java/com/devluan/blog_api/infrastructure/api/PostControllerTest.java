@@ -0,0 +1,123 @@
+package com.devluan.blog_api.infrastructure.api;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.comment.request.CommentRegisterRequest;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.application.dto.post.response.PostRegisterResponse;
+import com.devluan.blog_api.config.CacheConfig;
+import com.devluan.blog_api.domain.comment.service.CommentService;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String email;
+    private UUID authorId;
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(TestFixtures.user());
+        email = author.getEmail().getValue();
+        authorId = author.getUserId();
+        postId = postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId())).postId();
+    }
+
+    @Test
+    void updateMatchesAnyTagInTheIfMatchList() throws Exception {
+        mockMvc.perform(update("W/\"0.0\", \"7.0\", \"0.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.0\""));
+    }
+
+    @Test
+    void updateFailsWhenNoTagInTheIfMatchListIsCurrent() throws Exception {
+        mockMvc.perform(update("\"3.0\", \"7.0\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateWithoutIfMatchIsUnconditional() throws Exception {
+        mockMvc.perform(update(null))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.0\""));
+        mockMvc.perform(update(null))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2.0\""))
+                .andExpect(jsonPath("$.title").value("edited"));
+    }
+
+    @Test
+    void staleCachedBodyIsReloadedToMatchItsETag() throws Exception {
+        PostRegisterResponse current = postService.getPostById(postId).orElseThrow();
+        cacheManager.getCache(CacheConfig.POSTS).put(postId, new PostRegisterResponse(
+                postId, "stale", "stale", null, current.createdAt(), null, current.authorId(), 0, current.version() + 5));
+
+        mockMvc.perform(get("/api/posts/{postId}", postId).with(jwt().jwt(token -> token.subject(email))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""))
+                .andExpect(jsonPath("$.title").value("title"));
+    }
+
+    @Test
+    void newCommentIsNotHiddenByIfModifiedSince() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}", postId).with(jwt().jwt(token -> token.subject(email))))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+        commentService.createComment(new CommentRegisterRequest("comment", authorId, postId), "tester");
+
+        mockMvc.perform(get("/api/posts/{postId}", postId)
+                        .with(jwt().jwt(token -> token.subject(email)))
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Jan 2100 00:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.1\""))
+                .andExpect(jsonPath("$.commentCount").value(1));
+    }
+
+    private MockHttpServletRequestBuilder update(String ifMatch) {
+        MockHttpServletRequestBuilder request = put("/api/posts/{postId}", postId)
+                .with(jwt().jwt(token -> token.subject(email)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"edited\",\"content\":\"edited\"}");
+        return ifMatch == null ? request : request.header(HttpHeaders.IF_MATCH, ifMatch);
+    }
+}
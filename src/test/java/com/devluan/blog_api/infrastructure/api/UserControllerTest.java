@@ -0,0 +1,112 @@
+package com.devluan.blog_api.infrastructure.api;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "security.password-hashing.threads=2",
+        "security.password-hashing.queue-capacity=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerTest {
+
+    private static final int LOGINS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private BCryptPasswordEncoder passwordEncoder;
+
+    // Stands in for a slow BCrypt cost factor: every hash blocks until the test releases it.
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService requestThreads = Executors.newFixedThreadPool(LOGINS);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        requestThreads.shutdownNow();
+    }
+
+    @Test
+    void feedStaysResponsiveWhileLoginsSaturatePasswordHashing() throws Exception {
+        User user = userRepository.save(TestFixtures.user());
+        String email = user.getEmail().getValue();
+        postService.createPost(new PostRegisterRequest("title", "content", null, user.getUserId()));
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS)).when(passwordEncoder).matches(any(), anyString());
+        double rejectedBefore = meterRegistry.get("password.hashing.rejected").counter().count();
+
+        List<Future<Integer>> logins = new ArrayList<>();
+        for (int i = 0; i < LOGINS; i++) {
+            logins.add(requestThreads.submit(() -> mockMvc.perform(post("/api/users/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"" + email + "\",\"password\":\"password\"}"))
+                    .andReturn().getResponse().getStatus()));
+        }
+        // Two hashes running and two queued; every other login has been turned away with a 503.
+        awaitRejections(rejectedBefore + LOGINS - 4);
+        assertThat(meterRegistry.get("password.hashing.active").gauge().value()).isEqualTo(2);
+
+        long start = System.nanoTime();
+        mockMvc.perform(get("/api/posts/feed").with(jwt().jwt(token -> token.subject(email))))
+                .andExpect(status().isOk());
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        release.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> login : logins) {
+            statuses.add(login.get(10, TimeUnit.SECONDS));
+        }
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(4);
+        assertThat(statuses).filteredOn(status -> status == 503).hasSize(LOGINS - 4);
+    }
+
+    private void awaitRejections(double count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("password.hashing.rejected").counter().count() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
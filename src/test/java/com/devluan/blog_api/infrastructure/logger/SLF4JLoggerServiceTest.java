@@ -0,0 +1,59 @@
+package com.devluan.blog_api.infrastructure.logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SLF4JLoggerServiceTest {
+
+    private final Logger logbackLogger = (Logger) LoggerFactory.getLogger(SLF4JLoggerService.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final LoggerService logger = new SLF4JLoggerService();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logbackLogger.getLevel();
+        logbackLogger.setLevel(Level.DEBUG);
+        appender.start();
+        logbackLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logbackLogger.detachAppender(appender);
+        logbackLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void singleStringArgumentFillsThePlaceholderAtEveryLevel() {
+        logger.info("User logged out successfully: {}", "user@example.com");
+        logger.warn("User not found: {}", "user@example.com");
+        logger.error("Registration failed: {}", "user@example.com");
+        logger.debug("User persisted successfully: {}", "tester");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "User logged out successfully: user@example.com",
+                "User not found: user@example.com",
+                "Registration failed: user@example.com",
+                "User persisted successfully: tester");
+    }
+
+    @Test
+    void trailingThrowableIsLoggedAsTheException() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        logger.error("Unexpected error during user registration for email: {}", "user@example.com", failure);
+
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getFormattedMessage()).isEqualTo("Unexpected error during user registration for email: user@example.com");
+        assertThat(event.getThrowableProxy().getMessage()).isEqualTo("boom");
+    }
+}
@@ -0,0 +1,67 @@
+package com.devluan.blog_api.infrastructure.persistence;
+
+import com.devluan.blog_api.infrastructure.logger.LoggerService;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local stand-in for replication under the {@code replica-h2} profile: once Hibernate has created the
+ * schema on the primary H2 database, the same DDL is replayed on each replica. Rows are not copied,
+ * so data written afterwards is only visible through the primary, which makes routing observable.
+ */
+@Component
+@Profile("replica-h2")
+public class H2ReplicaSchemaCopier implements SmartInitializingSingleton {
+    private final String primaryUrl;
+    private final List<String> replicaUrls;
+    private final String username;
+    private final String password;
+    private final LoggerService logger;
+
+    public H2ReplicaSchemaCopier(@Value("${spring.datasource.url}") String primaryUrl,
+                                 @Value("${app.datasource.replica.urls}") List<String> replicaUrls,
+                                 @Value("${spring.datasource.username:sa}") String username,
+                                 @Value("${spring.datasource.password:}") String password,
+                                 LoggerService logger) {
+        this.primaryUrl = primaryUrl;
+        this.replicaUrls = replicaUrls;
+        this.username = username;
+        this.password = password;
+        this.logger = logger;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            List<String> ddl = new ArrayList<>();
+            try (Connection primary = DriverManager.getConnection(primaryUrl, username, password);
+                 Statement statement = primary.createStatement();
+                 ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+                while (script.next()) {
+                    ddl.add(script.getString(1));
+                }
+            }
+            for (String replicaUrl : replicaUrls) {
+                try (Connection replica = DriverManager.getConnection(replicaUrl.trim(), username, password);
+                     Statement statement = replica.createStatement()) {
+                    for (String sql : ddl) {
+                        statement.execute(sql);
+                    }
+                }
+            }
+            logger.info("Copied {} schema statements to {} H2 replicas", ddl.size(), replicaUrls.size());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not copy the H2 schema to the replicas", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.devluan.blog_api.infrastructure.persistence;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The replica gets the primary's schema but never its rows, so where a read went shows in what it finds.
+@SpringBootTest(properties = "app.datasource.routing.sticky-window=1s")
+@ActiveProfiles({"test", "replica-h2"})
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writesGoToThePrimaryAndReadOnlyTransactionsToTheReplica() throws Exception {
+        User author = userRepository.save(TestFixtures.user());
+        UUID postId = postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId())).postId();
+
+        assertThat(countPosts(PRIMARY_URL, postId)).isEqualTo(1);
+        assertThat(countPosts(REPLICA_URL, postId)).isZero();
+        assertThat(postService.getPostVersion(postId)).isEmpty();
+    }
+
+    @Test
+    void writerReadsFromThePrimaryUntilTheStickyWindowCloses() throws Exception {
+        User author = userRepository.save(TestFixtures.user());
+        signIn(author.getEmail().getValue());
+        UUID postId = postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId())).postId();
+
+        assertThat(postService.getPostVersion(postId)).isPresent();
+        signIn("someone-else@example.com");
+        assertThat(postService.getPostVersion(postId)).isEmpty();
+
+        signIn(author.getEmail().getValue());
+        TimeUnit.MILLISECONDS.sleep(1_500);
+        assertThat(postService.getPostVersion(postId)).isEmpty();
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private static int countPosts(String url, UUID postId) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM posts WHERE post_id = ?")) {
+            statement.setObject(1, postId);
+            try (ResultSet count = statement.executeQuery()) {
+                count.next();
+                return count.getInt(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.devluan.blog_api.infrastructure.scheduling;
+
+import com.devluan.blog_api.TestFixtures;
+import com.devluan.blog_api.application.dto.post.request.PostRegisterRequest;
+import com.devluan.blog_api.domain.comment.model.Comment;
+import com.devluan.blog_api.domain.comment.repository.CommentRepository;
+import com.devluan.blog_api.domain.post.repository.PostRepository;
+import com.devluan.blog_api.domain.post.service.PostService;
+import com.devluan.blog_api.domain.user.model.User;
+import com.devluan.blog_api.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentCountRepairJobTest {
+
+    @Autowired
+    private CommentCountRepairJob commentCountRepairJob;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void repairedCountReplacesTheCachedPost() {
+        User author = userRepository.save(TestFixtures.user());
+        UUID postId = postService.createPost(new PostRegisterRequest("title", "content", null, author.getUserId())).postId();
+        assertThat(postService.getPostById(postId).orElseThrow().commentCount()).isZero();
+
+        // A comment written past CommentService leaves the counter, and the cached post, behind.
+        Comment comment = new Comment();
+        comment.setContent("comment");
+        comment.setAuthor(author);
+        comment.setPost(postRepository.getReferenceById(postId));
+        commentRepository.save(comment);
+
+        commentCountRepairJob.repair();
+
+        assertThat(postService.getPostById(postId).orElseThrow().commentCount()).isEqualTo(1);
+    }
+}
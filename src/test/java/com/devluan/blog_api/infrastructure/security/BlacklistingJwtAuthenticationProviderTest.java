@@ -0,0 +1,59 @@
+package com.devluan.blog_api.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlacklistingJwtAuthenticationProviderTest {
+
+    private final AtomicInteger decodes = new AtomicInteger();
+    private TokenBlacklistService blacklist;
+    private SimpleMeterRegistry meterRegistry;
+    private BlacklistingJwtAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        blacklist = new TokenBlacklistService(1_000, 0.01);
+        meterRegistry = new SimpleMeterRegistry();
+        JwtAuthenticationProvider jwtAuthenticationProvider = new JwtAuthenticationProvider(token -> {
+            decodes.incrementAndGet();
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("user@example.com")
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+        });
+        provider = new BlacklistingJwtAuthenticationProvider(blacklist, jwtAuthenticationProvider, meterRegistry);
+    }
+
+    @Test
+    void acceptsTokenThatIsNotRevoked() {
+        Authentication result = provider.authenticate(new BearerTokenAuthenticationToken("live-token"));
+
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(result.getName()).isEqualTo("user@example.com");
+        assertThat(meterRegistry.get("security.token.blacklist.check").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsRevokedBearerTokenBeforeDecodingIt() {
+        blacklist.blacklistToken("revoked-token", Instant.now().plusSeconds(3600));
+
+        assertThatThrownBy(() -> provider.authenticate(new BearerTokenAuthenticationToken("revoked-token")))
+                .isInstanceOf(InvalidBearerTokenException.class);
+        assertThat(decodes).hasValue(0);
+        assertThat(meterRegistry.get("security.token.blacklist.rejected").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.devluan.blog_api.infrastructure.security;
+
+import com.devluan.blog_api.domain.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    // Stands in for a slow BCrypt cost factor: every hash blocks until the test releases it.
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final BCryptPasswordEncoder blockingEncoder = new BCryptPasswordEncoder() {
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hashing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService requestThreads = Executors.newFixedThreadPool(8);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        requestThreads.shutdownNow();
+        service.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenThePoolAndQueueAreFull() throws Exception {
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 1, 1, 10_000);
+        Future<Boolean> running = requestThreads.submit(() -> service.matches("password", "hash"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Boolean> queued = requestThreads.submit(() -> service.matches("password", "hash"));
+        awaitQueueDepth(1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.matches("password", "hash"))
+                .isInstanceOf(ServiceBusyException.class)
+                .extracting("errorCode").isEqualTo("PASSWORD_HASHING_BUSY");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void otherRequestsStayResponsiveDuringALoginSpike() throws Exception {
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 2, 2, 10_000);
+
+        // Far more logins than request threads: only four can hold a thread, the rest are turned away.
+        List<Future<Boolean>> logins = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            logins.add(requestThreads.submit(() -> service.matches("password", "hash")));
+        }
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        Future<String> otherEndpoint = requestThreads.submit(() -> "feed");
+        assertThat(otherEndpoint.get(2, TimeUnit.SECONDS)).isEqualTo("feed");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        // Every login beyond the pool and queue is rejected while the hashes are still blocked.
+        awaitRejections(46);
+        release.countDown();
+        int served = 0;
+        int rejected = 0;
+        for (Future<Boolean> login : logins) {
+            try {
+                login.get(5, TimeUnit.SECONDS);
+                served++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ServiceBusyException.class);
+                rejected++;
+            }
+        }
+        assertThat(served).isEqualTo(4);
+        assertThat(rejected).isEqualTo(46);
+    }
+
+    private void awaitRejections(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.rejected").counter().count() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}